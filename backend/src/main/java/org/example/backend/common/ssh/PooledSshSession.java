@@ -0,0 +1,99 @@
+package org.example.backend.common.ssh;
+
+import com.jcraft.jsch.Session;
+import lombok.Getter;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 풀에 보관되는 SSH 세션과 채널 사용 현황.
+ */
+class PooledSshSession {
+
+    @Getter
+    private final SshSessionKey key;
+
+    @Getter
+    private final Session session;
+
+    private final int maxChannels;
+    private final Semaphore channels;
+
+    private volatile long lastUsedAt = System.currentTimeMillis();
+
+    // 정리된 세션은 채널을 얻더라도 돌려주고 실패로 처리합니다.
+    private volatile boolean closed;
+
+    PooledSshSession(SshSessionKey key, Session session, int maxChannels) {
+        this.key = key;
+        this.session = session;
+        this.maxChannels = maxChannels;
+        this.channels = new Semaphore(maxChannels, true);
+    }
+
+    boolean tryReserveChannel() {
+        return channels.tryAcquire() && checkOpen();
+    }
+
+    boolean reserveChannel(long timeout, TimeUnit unit) throws InterruptedException {
+        return channels.tryAcquire(timeout, unit) && checkOpen();
+    }
+
+    /**
+     * 사용 중인 채널이 없을 때만 모든 채널을 잠시 가져와 세션을 닫힘으로 표시합니다.
+     * 그 뒤에 채널을 얻는 쪽은 닫힘을 보고 돌려주므로, 정리 중인 세션이 새로 대여되지 않습니다.
+     */
+    boolean tryClose() {
+        if (!channels.tryAcquire(maxChannels)) {
+            return false;
+        }
+        closed = true;
+        // 이 세션을 기다리던 대여 요청이 깨어나 다른 세션으로 다시 시도하도록 채널을 돌려줍니다.
+        channels.release(maxChannels);
+        return true;
+    }
+
+    void markClosed() {
+        closed = true;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    private boolean checkOpen() {
+        if (!closed) {
+            return true;
+        }
+        channels.release();
+        return false;
+    }
+
+    void releaseChannel() {
+        lastUsedAt = System.currentTimeMillis();
+        channels.release();
+    }
+
+    int activeChannels() {
+        return maxChannels - channels.availablePermits();
+    }
+
+    long idleMillis() {
+        return System.currentTimeMillis() - lastUsedAt;
+    }
+
+    boolean isConnected() {
+        return session.isConnected();
+    }
+
+    void touch() {
+        lastUsedAt = System.currentTimeMillis();
+    }
+
+    void disconnect() {
+        if (session.isConnected()) {
+            session.disconnect();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.backend.common.ssh;
+
+import com.jcraft.jsch.ChannelExec;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * SSH exec 채널로 명령을 실행하고 출력 펌프를 통해 결과를 수집합니다.
+ * 추가 구독자를 넘기면 같은 출력을 다시 읽지 않고 함께 받아볼 수 있습니다.
+ */
+@Slf4j
+@Component
+public class SshCommandExecutor {
+
+    private static final int CHANNEL_CONNECT_TIMEOUT_MILLIS = 60_000;
+
+    @Value("${ssh.command.timeout-seconds:900}")
+    private long commandTimeoutSeconds;
+
+    @Value("${ssh.output.buffer-bytes:262144}")
+    private int outputBufferBytes;
+
+    // 결과 문자열로 돌려줄 출력 한도. 전체 출력은 구독자(로그 저장 등)가 따로 받습니다.
+    @Value("${ssh.output.collect-limit-bytes:1048576}")
+    private int collectLimitBytes;
+
+    private final ExecutorService pumpThreads = Executors.newCachedThreadPool(pumpThreadFactory());
+
+    public SshCommandResult execute(Session session, String command, SshOutputListener... listeners)
+            throws JSchException, IOException, InterruptedException {
+        return execute(session, command, commandTimeoutSeconds, listeners);
+    }
+
+    public SshCommandResult execute(Session session, String command, long timeoutSeconds, SshOutputListener... listeners)
+            throws JSchException, IOException, InterruptedException {
+        return executeWithInput(session, command, timeoutSeconds, null, listeners);
+    }
+
+    /**
+     * stdin 으로 데이터를 흘려보내면서 명령을 실행합니다. (예: tar 스트림 전송)
+     * 출력은 펌프가 동시에 읽으므로 원격 쪽 출력 버퍼가 차서 쓰기가 멈추는 일은 없습니다.
+     */
+    public SshCommandResult executeWithInput(Session session, String command, long timeoutSeconds, SshInputWriter input, SshOutputListener... listeners)
+            throws JSchException, IOException, InterruptedException {
+
+        ChannelExec channel = (ChannelExec) session.openChannel("exec");
+        try {
+            channel.setCommand(command);
+            OutputStream stdin = null;
+            if (input == null) {
+                channel.setInputStream(null);
+            } else {
+                stdin = channel.getOutputStream();
+            }
+
+            InputStream stdout = channel.getInputStream();
+            InputStream stderr = channel.getErrStream();
+
+            SshOutputPump pump = new SshOutputPump(channel, pumpThreads, outputBufferBytes);
+            SshOutputCollector collector = new SshOutputCollector(collectLimitBytes);
+            pump.subscribe(collector);
+            for (SshOutputListener listener : listeners) {
+                pump.subscribe(listener);
+            }
+
+            channel.connect(CHANNEL_CONNECT_TIMEOUT_MILLIS);
+            pump.start(stdout, stderr);
+
+            if (stdin != null) {
+                try (OutputStream remoteStdin = stdin) {
+                    input.writeTo(remoteStdin);
+                }
+            }
+
+            int exitStatus;
+            try {
+                exitStatus = pump.awaitExitStatus(timeoutSeconds, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                throw new IOException("명령 실행 타임아웃: " + command);
+            }
+
+            return new SshCommandResult(exitStatus, collector.stdout(), collector.output());
+
+        } finally {
+            if (channel.isConnected()) {
+                channel.disconnect();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pumpThreads.shutdownNow();
+    }
+
+    private static CustomizableThreadFactory pumpThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ssh-pump-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.backend.common.ssh;
+
+/**
+ * 스크립트 번들 안의 명령 하나의 실행 결과.
+ *
+ * @param index      0부터 시작하는 명령 순번
+ * @param command    원본 명령
+ * @param exitStatus 종료 코드 (실행되지 않았으면 null)
+ * @param output     해당 명령 구간의 출력 (stderr 라인은 "[ERROR] " 접두사)
+ * @param elapsedNanos 시작/종료 마커를 받은 시각 차이 (실행되지 않았으면 0)
+ */
+public record SshCommandOutcome(int index, String command, Integer exitStatus, String output, long elapsedNanos) {
+
+    public boolean isExecuted() {
+        return exitStatus != null;
+    }
+
+    public boolean isSuccess() {
+        return exitStatus != null && exitStatus == 0;
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.backend.common.ssh;
+
+/**
+ * @param exitStatus 원격 명령 종료 코드 (알 수 없으면 -1)
+ * @param stdout     표준 출력
+ * @param output     표준 출력 + 표준 에러("[ERROR] " 접두사)를 도착 순서대로 합친 출력
+ */
+public record SshCommandResult(int exitStatus, String stdout, String output) {
+
+    public boolean isSuccess() {
+        return exitStatus == 0;
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.backend.common.ssh;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 원격 명령의 stdin 으로 보낼 내용을 씁니다. 쓰기가 끝나면 실행기가 stdin 을 닫습니다.
+ */
+@FunctionalInterface
+public interface SshInputWriter {
+    void writeTo(OutputStream stdin) throws IOException;
+}
@@ -0,0 +1,14 @@
+package org.example.backend.common.ssh;
+
+import java.nio.charset.StandardCharsets;
+
+public record SshOutputChunk(SshStreamType streamType, byte[] data) {
+
+    public String text() {
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    public int length() {
+        return data.length;
+    }
+}
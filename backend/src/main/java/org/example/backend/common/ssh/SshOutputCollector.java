@@ -0,0 +1,81 @@
+package org.example.backend.common.ssh;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 명령 결과 문자열을 만들기 위한 기본 구독자.
+ * 바이트 단위로 모아 두었다가 마지막에 한 번만 디코딩하므로 청크 경계에서 한글이 깨지지 않습니다.
+ * 출력이 limitBytes 를 넘으면 마지막 limitBytes 만 남겨, 큰 출력에도 명령 하나가 쓰는 메모리가 제한됩니다.
+ * (전체 출력이 필요하면 별도 구독자로 받아서 저장합니다.)
+ */
+public class SshOutputCollector implements SshOutputListener {
+
+    private static final byte[] STDERR_PREFIX = "[ERROR] ".getBytes(StandardCharsets.UTF_8);
+    private static final String TRUNCATED_NOTICE = "...(앞부분 %d bytes 생략)...\n";
+
+    private final TailBuffer stdout;
+    private final TailBuffer output;
+
+    public SshOutputCollector(int limitBytes) {
+        this.stdout = new TailBuffer(limitBytes);
+        this.output = new TailBuffer(limitBytes);
+    }
+
+    @Override
+    public void onOutput(SshOutputChunk chunk) {
+        if (chunk.streamType() == SshStreamType.STDOUT) {
+            stdout.write(chunk.data());
+        } else {
+            output.write(STDERR_PREFIX);
+        }
+        output.write(chunk.data());
+    }
+
+    public String stdout() {
+        return stdout.toString();
+    }
+
+    public String output() {
+        return output.toString();
+    }
+
+    private static class TailBuffer {
+
+        private final int limitBytes;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private long droppedBytes;
+
+        TailBuffer(int limitBytes) {
+            this.limitBytes = limitBytes;
+        }
+
+        void write(byte[] data) {
+            buffer.writeBytes(data);
+
+            // 한도의 두 배가 찰 때마다 뒤쪽 limitBytes 만 남겨 복사 비용을 분할 상환합니다.
+            if (buffer.size() >= 2L * limitBytes) {
+                byte[] all = buffer.toByteArray();
+                int drop = all.length - limitBytes;
+                droppedBytes += drop;
+                buffer.reset();
+                buffer.write(all, drop, limitBytes);
+            }
+        }
+
+        @Override
+        public String toString() {
+            byte[] all = buffer.toByteArray();
+            int drop = Math.max(0, all.length - limitBytes);
+
+            // 잘린 위치가 멀티바이트 문자 중간이면 다음 문자부터 시작
+            while (drop < all.length && (drop > 0 || droppedBytes > 0) && (all[drop] & 0xC0) == 0x80) {
+                drop++;
+            }
+
+            String text = new String(all, drop, all.length - drop, StandardCharsets.UTF_8);
+            long totalDropped = droppedBytes + drop;
+            return totalDropped > 0 ? String.format(TRUNCATED_NOTICE, totalDropped) + text : text;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.backend.common.ssh;
+
+/**
+ * SSH 명령 출력 구독자.
+ * 하나의 펌프에 여러 구독자(로그 저장, 실시간 화면 등)가 붙을 수 있으며,
+ * 콜백은 펌프 내부에서 직렬화되어 호출되므로 구현체는 별도 동기화가 필요 없습니다.
+ */
+public interface SshOutputListener {
+
+    void onOutput(SshOutputChunk chunk);
+
+    default void onComplete(int exitStatus) {
+    }
+}
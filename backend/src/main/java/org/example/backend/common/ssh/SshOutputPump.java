@@ -0,0 +1,123 @@
+package org.example.backend.common.ssh;
+
+import com.jcraft.jsch.Channel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSH 채널의 stdout / stderr 를 전용 스레드에서 블로킹 read 로 읽어 구독자에게 전달하는 펌프.
+ * - available() + sleep 폴링 없이 데이터가 도착하는 즉시 전달합니다.
+ * - 최근 출력은 용량이 제한된 링 버퍼에 보관되어, 나중에 붙은 구독자도 다시 읽지 않고 이어서 받을 수 있습니다.
+ * - 두 스트림을 읽는 스레드가 모두 EOF 에 도달하면 exit-status 를 한 번 읽어 완료를 알립니다.
+ */
+@Slf4j
+public class SshOutputPump {
+
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    private final Channel channel;
+    private final Executor readerExecutor;
+    private final int bufferCapacity;
+
+    private final Deque<SshOutputChunk> ringBuffer = new ArrayDeque<>();
+    private final List<SshOutputListener> listeners = new ArrayList<>();
+    // 아직 EOF 에 도달하지 않은 스트림 수. 마지막으로 끝난 펌프 스레드가 완료를 알립니다.
+    private final AtomicInteger openStreams = new AtomicInteger(2);
+    private final CompletableFuture<Integer> completion = new CompletableFuture<>();
+
+    private int bufferedBytes;
+    private long totalBytes;
+
+    public SshOutputPump(Channel channel, Executor readerExecutor, int bufferCapacity) {
+        this.channel = channel;
+        this.readerExecutor = readerExecutor;
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public void start(InputStream stdout, InputStream stderr) {
+        readerExecutor.execute(() -> pump(stdout, SshStreamType.STDOUT));
+        readerExecutor.execute(() -> pump(stderr, SshStreamType.STDERR));
+    }
+
+    /**
+     * 구독자를 등록합니다. 링 버퍼에 남아있는 출력을 먼저 재생한 뒤 이후 출력을 실시간으로 전달합니다.
+     */
+    public synchronized void subscribe(SshOutputListener listener) {
+        ringBuffer.forEach(listener::onOutput);
+        listeners.add(listener);
+
+        if (completion.isDone()) {
+            listener.onComplete(completion.join());
+        }
+    }
+
+    public CompletableFuture<Integer> completion() {
+        return completion;
+    }
+
+    public int awaitExitStatus(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+        try {
+            return completion.get(timeout, unit);
+        } catch (ExecutionException e) {
+            return -1;
+        }
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private void pump(InputStream in, SshStreamType streamType) {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+
+        try (in) {
+            int len;
+            while ((len = in.read(buffer)) != -1) {
+                publish(new SshOutputChunk(streamType, Arrays.copyOf(buffer, len)));
+            }
+        } catch (IOException e) {
+            // 채널이 강제로 끊기면 파이프가 닫히면서 발생하므로 EOF 와 동일하게 처리
+            log.debug("SSH {} 스트림 종료: {}", streamType, e.getMessage());
+        } finally {
+            if (openStreams.decrementAndGet() == 0) {
+                complete();
+            }
+        }
+    }
+
+    private synchronized void publish(SshOutputChunk chunk) {
+        totalBytes += chunk.length();
+
+        ringBuffer.addLast(chunk);
+        bufferedBytes += chunk.length();
+        while (bufferedBytes > bufferCapacity && ringBuffer.size() > 1) {
+            bufferedBytes -= ringBuffer.removeFirst().length();
+        }
+
+        for (SshOutputListener listener : listeners) {
+            listener.onOutput(chunk);
+        }
+    }
+
+    private void complete() {
+        // JSch 는 stderr 파이프를 채널 close 를 처리할 때 닫고, 서버는 exit-status 를 close 보다 먼저 보내므로
+        // 두 스트림이 모두 EOF 이면 exit-status 는 이미 반영되어 있습니다. 받지 못했다면(시그널 종료 등) -1 입니다.
+        int exitStatus = channel.getExitStatus();
+
+        synchronized (this) {
+            completion.complete(exitStatus);
+            for (SshOutputListener listener : listeners) {
+                listener.onComplete(exitStatus);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.backend.common.ssh;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+
+/**
+ * 여러 명령을 하나의 bash 스크립트로 묶습니다.
+ * 각 명령은 서브셸에서 실행되어 기존처럼 명령끼리 작업 디렉토리/변수를 공유하지 않고,
+ * 시작/종료 마커를 stdout, stderr 양쪽에 남겨 출력에서 명령별 구간과 종료 코드를 다시 분리할 수 있습니다.
+ * 실패한 명령이 있으면 그 종료 코드로 스크립트를 즉시 종료합니다.
+ */
+@UtilityClass
+public class SshScriptBundle {
+
+    public static final String BEGIN_MARKER = "__SEED_CMD_BEGIN__";
+    public static final String END_MARKER = "__SEED_CMD_END__";
+
+    public static String compile(List<String> cmds) {
+        StringBuilder script = new StringBuilder()
+                .append("#!/bin/bash\n")
+                .append("__seed_mark() { echo \"$1\"; echo \"$1\" >&2; }\n");
+
+        for (int i = 0; i < cmds.size(); i++) {
+            String cmd = cmds.get(i);
+
+            script.append("__seed_mark \"").append(BEGIN_MARKER).append(' ').append(i).append("\"\n")
+                    .append("(\n")
+                    .append(cmd)
+                    .append(cmd.endsWith("\n") ? "" : "\n")
+                    .append(")\n")
+                    .append("__seed_rc=$?\n")
+                    .append("__seed_mark \"").append(END_MARKER).append(' ').append(i).append(" $__seed_rc\"\n")
+                    .append("[ \"$__seed_rc\" -eq 0 ] || exit \"$__seed_rc\"\n");
+        }
+
+        return script.append("exit 0\n").toString();
+    }
+}
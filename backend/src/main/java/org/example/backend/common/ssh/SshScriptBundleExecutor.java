@@ -0,0 +1,66 @@
+package org.example.backend.common.ssh;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import com.jcraft.jsch.SftpException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 명령 목록을 스크립트 하나로 묶어 SFTP 로 한 번 업로드하고, exec 채널 하나에서 실행합니다.
+ * 명령마다 채널을 여닫는 왕복이 사라지므로 지연이 큰 서버일수록 단계 소요 시간이 크게 줄어듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SshScriptBundleExecutor {
+
+    private static final int SFTP_CONNECT_TIMEOUT_MILLIS = 30_000;
+    private static final int SCRIPT_PERMISSIONS = 0700;
+
+    private final SshCommandExecutor sshCommandExecutor;
+
+    @Value("${ssh.script.timeout-seconds:3600}")
+    private long scriptTimeoutSeconds;
+
+    @Value("${ssh.output.collect-limit-bytes:1048576}")
+    private int collectLimitBytes;
+
+    public SshScriptResult execute(Session session, List<String> cmds, SshOutputListener... listeners)
+            throws JSchException, IOException, InterruptedException {
+
+        String remotePath = "/tmp/seed-step-" + UUID.randomUUID() + ".sh";
+        upload(session, SshScriptBundle.compile(cmds), remotePath);
+
+        SshScriptOutputParser parser = new SshScriptOutputParser(cmds, List.of(listeners), collectLimitBytes);
+        String command = String.format("bash %1$s; __seed_rc=$?; rm -f %1$s; exit $__seed_rc", remotePath);
+
+        SshCommandResult result = sshCommandExecutor.execute(session, command, scriptTimeoutSeconds, parser);
+
+        return parser.toResult(result.exitStatus());
+    }
+
+    private void upload(Session session, String script, String remotePath) throws JSchException, IOException {
+        ChannelSftp sftp = (ChannelSftp) session.openChannel("sftp");
+        try {
+            sftp.connect(SFTP_CONNECT_TIMEOUT_MILLIS);
+            sftp.put(new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)), remotePath);
+            sftp.chmod(SCRIPT_PERMISSIONS, remotePath);
+        } catch (SftpException e) {
+            throw new IOException("스크립트 업로드 실패: " + remotePath, e);
+        } finally {
+            if (sftp.isConnected()) {
+                sftp.disconnect();
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.backend.common.ssh;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스크립트 번들 출력에서 명령 마커를 찾아 명령별 출력과 종료 코드로 나눕니다.
+ * 마커 라인은 걸러내고, 나머지 출력만 하위 구독자에게 전달합니다.
+ * 명령별 출력은 마지막 limitChars 글자만 남기므로, 전체 출력이 필요하면 하위 구독자로 받아야 합니다.
+ */
+class SshScriptOutputParser implements SshOutputListener {
+
+    private static final String STDERR_PREFIX = "[ERROR] ";
+
+    // 개행 없이 이어지는 출력(진행 표시줄 등)은 이 크기에서 끊어 한 줄처럼 내보냅니다.
+    private static final int MAX_PARTIAL_LINE_BYTES = 64 * 1024;
+
+    // 끊을 때 남겨두는 끝부분. 마커와 뒤따르는 번호/종료 코드가 둘로 나뉘지 않도록 마커 줄보다 길게 잡습니다.
+    private static final int MARKER_TAIL_BYTES = 64;
+
+    private final List<String> cmds;
+    private final List<SshOutputListener> downstream;
+    private final int limitChars;
+
+    private final StringBuilder[] outputs;
+    private final Integer[] exitStatuses;
+    private final long[] beginNanos;
+    private final long[] elapsedNanos;
+    private final long[] droppedChars;
+
+    private final Map<SshStreamType, ByteArrayOutputStream> partialLines = new EnumMap<>(SshStreamType.class);
+    private final Map<SshStreamType, Integer> currentIndex = new EnumMap<>(SshStreamType.class);
+
+    SshScriptOutputParser(List<String> cmds, List<SshOutputListener> downstream, int limitChars) {
+        this.cmds = cmds;
+        this.downstream = downstream;
+        this.limitChars = limitChars;
+        this.droppedChars = new long[cmds.size()];
+        this.outputs = new StringBuilder[cmds.size()];
+        this.exitStatuses = new Integer[cmds.size()];
+        this.beginNanos = new long[cmds.size()];
+        this.elapsedNanos = new long[cmds.size()];
+
+        for (int i = 0; i < cmds.size(); i++) {
+            outputs[i] = new StringBuilder();
+        }
+        for (SshStreamType streamType : SshStreamType.values()) {
+            partialLines.put(streamType, new ByteArrayOutputStream());
+            currentIndex.put(streamType, -1);
+        }
+    }
+
+    @Override
+    public void onOutput(SshOutputChunk chunk) {
+        ByteArrayOutputStream partial = partialLines.get(chunk.streamType());
+
+        for (byte b : chunk.data()) {
+            partial.write(b);
+            if (b == '\n') {
+                handleLine(chunk.streamType(), partial.toString(StandardCharsets.UTF_8));
+                partial.reset();
+            } else if (partial.size() >= MAX_PARTIAL_LINE_BYTES) {
+                flushTruncatedLine(chunk.streamType(), partial);
+            }
+        }
+    }
+
+    @Override
+    public void onComplete(int exitStatus) {
+        partialLines.forEach((streamType, partial) -> {
+            if (partial.size() > 0) {
+                handleLine(streamType, partial.toString(StandardCharsets.UTF_8));
+                partial.reset();
+            }
+        });
+
+        downstream.forEach(listener -> listener.onComplete(exitStatus));
+    }
+
+    // 버퍼를 UTF-8 문자 경계에서 끊어 앞부분만 한 줄로 처리하고, 끝부분은 다음 출력과 이어 붙이도록 남깁니다.
+    private void flushTruncatedLine(SshStreamType streamType, ByteArrayOutputStream partial) {
+        byte[] bytes = partial.toByteArray();
+        int cut = bytes.length - MARKER_TAIL_BYTES;
+        while (cut > 0 && (bytes[cut] & 0xC0) == 0x80) {
+            cut--;
+        }
+
+        handleLine(streamType, new String(bytes, 0, cut, StandardCharsets.UTF_8));
+        partial.reset();
+        partial.write(bytes, cut, bytes.length - cut);
+    }
+
+    SshScriptResult toResult(int exitStatus) {
+        List<SshCommandOutcome> outcomes = new ArrayList<>(cmds.size());
+        for (int i = 0; i < cmds.size(); i++) {
+            String output = outputs[i].length() > limitChars
+                    ? outputs[i].substring(outputs[i].length() - limitChars)
+                    : outputs[i].toString();
+            long dropped = droppedChars[i] + (outputs[i].length() - output.length());
+            if (dropped > 0) {
+                output = "...(앞부분 " + dropped + "자 생략)...\n" + output;
+            }
+            outcomes.add(new SshCommandOutcome(i, cmds.get(i), exitStatuses[i], output, elapsedNanos[i]));
+        }
+        return new SshScriptResult(exitStatus, outcomes);
+    }
+
+    private void handleLine(SshStreamType streamType, String line) {
+        // 명령 출력이 개행 없이 끝나면 마커가 같은 줄에 붙어서 나오므로 줄 중간에서도 찾습니다.
+        int begin = line.indexOf(SshScriptBundle.BEGIN_MARKER);
+        if (begin >= 0) {
+            appendContent(streamType, line.substring(0, begin));
+
+            int index = parseIndex(line.substring(begin + SshScriptBundle.BEGIN_MARKER.length()));
+            if (streamType == SshStreamType.STDOUT && index >= 0) {
+                beginNanos[index] = System.nanoTime();
+            }
+            currentIndex.put(streamType, index);
+            return;
+        }
+
+        int end = line.indexOf(SshScriptBundle.END_MARKER);
+        if (end >= 0) {
+            appendContent(streamType, line.substring(0, end));
+
+            String[] tokens = line.substring(end + SshScriptBundle.END_MARKER.length()).trim().split("\\s+");
+            int index = parseIndex(tokens[0]);
+            if (streamType == SshStreamType.STDOUT && index >= 0 && tokens.length > 1) {
+                exitStatuses[index] = Integer.parseInt(tokens[1]);
+                elapsedNanos[index] = System.nanoTime() - beginNanos[index];
+            }
+            currentIndex.put(streamType, -1);
+            return;
+        }
+
+        appendContent(streamType, line);
+    }
+
+    private void appendContent(SshStreamType streamType, String content) {
+        if (content.isEmpty()) {
+            return;
+        }
+
+        int index = currentIndex.get(streamType);
+        if (index >= 0) {
+            if (streamType == SshStreamType.STDERR) {
+                outputs[index].append(STDERR_PREFIX);
+            }
+            outputs[index].append(content);
+
+            if (outputs[index].length() >= 2L * limitChars) {
+                int drop = outputs[index].length() - limitChars;
+                droppedChars[index] += drop;
+                outputs[index].delete(0, drop);
+            }
+        }
+
+        SshOutputChunk chunk = new SshOutputChunk(streamType, content.getBytes(StandardCharsets.UTF_8));
+        downstream.forEach(listener -> listener.onOutput(chunk));
+    }
+
+    private int parseIndex(String token) {
+        try {
+            int index = Integer.parseInt(token.trim());
+            return (index >= 0 && index < cmds.size()) ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
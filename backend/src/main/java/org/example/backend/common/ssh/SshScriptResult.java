@@ -0,0 +1,30 @@
+package org.example.backend.common.ssh;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @param exitStatus 스크립트 전체 종료 코드
+ * @param commands   명령별 실행 결과 (실행되지 않은 명령 포함)
+ */
+public record SshScriptResult(int exitStatus, List<SshCommandOutcome> commands) {
+
+    public boolean isSuccess() {
+        return exitStatus == 0;
+    }
+
+    /**
+     * 실패한 명령. 명령 구간 밖(업로드/실행 자체)에서 실패했다면 비어 있습니다.
+     */
+    public Optional<SshCommandOutcome> failedCommand() {
+        return commands.stream()
+                .filter(outcome -> outcome.isExecuted() && !outcome.isSuccess())
+                .findFirst();
+    }
+
+    public List<SshCommandOutcome> executedCommands() {
+        return commands.stream()
+                .filter(SshCommandOutcome::isExecuted)
+                .toList();
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.backend.common.ssh;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 세션 풀 키. 같은 서버라도 다른 키로 접속하면 별도 세션을 사용합니다.
+ */
+public record SshSessionKey(String serverIp, String keyFingerprint) {
+
+    public static SshSessionKey of(String serverIp, byte[] pemKey) {
+        return new SshSessionKey(serverIp, fingerprint(pemKey));
+    }
+
+    private static String fingerprint(byte[] pemKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(pemKey);
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 은 모든 JVM 에서 지원되므로 발생하지 않음
+            return Integer.toHexString(new String(pemKey, StandardCharsets.UTF_8).hashCode());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return serverIp + "#" + keyFingerprint.substring(0, Math.min(12, keyFingerprint.length()));
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.backend.common.ssh;
+
+import com.jcraft.jsch.Session;
+
+/**
+ * 풀에서 빌려온 세션의 채널 한 자리.
+ * close() 하면 세션은 끊지 않고 풀로 반환됩니다.
+ */
+public class SshSessionLease implements AutoCloseable {
+
+    private final SshSessionPool pool;
+    private final PooledSshSession pooledSession;
+    private boolean released;
+
+    SshSessionLease(SshSessionPool pool, PooledSshSession pooledSession) {
+        this.pool = pool;
+        this.pooledSession = pooledSession;
+    }
+
+    public Session getSession() {
+        return pooledSession.getSession();
+    }
+
+    public SshSessionKey getKey() {
+        return pooledSession.getKey();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (released) {
+            return;
+        }
+        released = true;
+        pool.release(pooledSession);
+    }
+}
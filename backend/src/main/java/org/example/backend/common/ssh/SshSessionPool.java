@@ -0,0 +1,303 @@
+package org.example.backend.common.ssh;
+
+import com.jcraft.jsch.Channel;
+import com.jcraft.jsch.ChannelExec;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.Session;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * (서버 IP, PEM 지문) 단위로 SSH 세션을 재사용하는 풀.
+ * - 세션 하나에 최대 max-channels-per-session 개의 채널(exec/sftp)을 동시에 열 수 있습니다.
+ * - 채널이 모두 사용 중이면 max-sessions-per-host 까지 세션을 추가로 연결하고, 그 이후에는 대기합니다.
+ * - 새 세션 연결(TCP + 키 교환)은 락 밖에서 하므로, 연결하는 동안에도 같은 서버의 기존 세션은 계속 대여됩니다.
+ * - keepalive 로 연결을 유지하고, 오래 쉬었던 세션은 대여 시 채널을 열어 왕복으로 확인한 뒤 끊어졌으면 다시 연결합니다.
+ * - 일정 시간 사용되지 않은 세션은 주기적으로 정리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SshSessionPool {
+
+    private static final String SSH_USER = "ubuntu";
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+    private static final int HEALTH_CHECK_TIMEOUT_MILLIS = 5_000;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ssh.port:22}")
+    private int sshPort;
+
+    @Value("${ssh.pool.max-channels-per-session:8}")
+    private int maxChannelsPerSession;
+
+    @Value("${ssh.pool.max-sessions-per-host:2}")
+    private int maxSessionsPerHost;
+
+    @Value("${ssh.pool.keepalive-interval-seconds:30}")
+    private int keepAliveIntervalSeconds;
+
+    @Value("${ssh.pool.idle-timeout-seconds:300}")
+    private long idleTimeoutSeconds;
+
+    @Value("${ssh.pool.acquire-timeout-seconds:120}")
+    private long acquireTimeoutSeconds;
+
+    private final Map<SshSessionKey, List<PooledSshSession>> sessions = new ConcurrentHashMap<>();
+
+    // 서버별로 연결 중인 세션 수. 세션 목록과 같은 락(candidates) 안에서만 바꿉니다.
+    private final Map<SshSessionKey, Integer> connecting = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("ssh.session.pool.sessions", sessions, s -> s.values().stream().mapToInt(List::size).sum())
+                .description("풀에 연결되어 있는 SSH 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("ssh.session.pool.channels.active", sessions, s -> s.values().stream()
+                        .flatMap(List::stream)
+                        .mapToInt(PooledSshSession::activeChannels)
+                        .sum())
+                .description("사용 중인 SSH 채널 수")
+                .register(meterRegistry);
+    }
+
+    public SshSessionLease acquire(String serverIp, byte[] pemKey) throws BusinessException {
+        SshSessionKey key = SshSessionKey.of(serverIp, pemKey);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(acquireTimeoutSeconds);
+
+            // 고른 세션이 그 사이 정리되거나 끊어졌으면 처음부터 다시 고릅니다.
+            while (true) {
+                List<PooledSshSession> candidates = sessions.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>());
+
+                // 1) 채널 여유가 있는 기존 세션 재사용
+                PooledSshSession reused = reserveExisting(candidates);
+                if (reused != null) {
+                    outcome = "reused";
+                    return new SshSessionLease(this, reused);
+                }
+
+                // 2) 세션 수 여유가 있으면 자리만 잡고, 연결은 락 밖에서
+                boolean creating = false;
+                synchronized (candidates) {
+                    // 정리 작업이 빈 목록을 맵에서 지웠다면 새 목록으로 다시 시작
+                    if (sessions.get(key) != candidates) {
+                        continue;
+                    }
+                    if (candidates.size() + connecting.getOrDefault(key, 0) < maxSessionsPerHost) {
+                        connecting.merge(key, 1, Integer::sum);
+                        creating = true;
+                    } else if (candidates.isEmpty()) {
+                        // 자리가 모두 연결 중인 세션 몫이면 연결이 끝날 때까지 대기
+                        long remainingNanos = deadline - System.nanoTime();
+                        if (remainingNanos <= 0) {
+                            throw new BusinessException(ErrorCode.SSH_CHANNEL_ACQUIRE_TIMEOUT);
+                        }
+                        TimeUnit.NANOSECONDS.timedWait(candidates, remainingNanos);
+                        continue;
+                    }
+                }
+
+                if (creating) {
+                    PooledSshSession created = null;
+                    try {
+                        created = connect(key, pemKey);
+                        created.tryReserveChannel();
+                    } finally {
+                        publish(key, candidates, created);
+                    }
+                    outcome = "created";
+                    return new SshSessionLease(this, created);
+                }
+
+                // 3) 가장 한가한 세션의 채널이 반환될 때까지 대기
+                PooledSshSession leastBusy = candidates.stream()
+                        .min(Comparator.comparingInt(PooledSshSession::activeChannels))
+                        .orElse(null);
+                if (leastBusy == null) {
+                    continue;
+                }
+
+                long remainingNanos = deadline - System.nanoTime();
+                if (!leastBusy.reserveChannel(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS)) {
+                    if (leastBusy.isClosed() && System.nanoTime() < deadline) {
+                        continue;
+                    }
+                    throw new BusinessException(ErrorCode.SSH_CHANNEL_ACQUIRE_TIMEOUT);
+                }
+                if (!isHealthy(leastBusy)) {
+                    leastBusy.releaseChannel();
+                    evict(leastBusy);
+                    continue;
+                }
+                outcome = "waited";
+                return new SshSessionLease(this, leastBusy);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.CREATE_SSH_SESSION_FAILED);
+
+        } finally {
+            sample.stop(Timer.builder("ssh.session.acquire")
+                    .description("SSH 세션 대여 소요 시간")
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95)
+                    .register(meterRegistry));
+        }
+    }
+
+    void release(PooledSshSession pooledSession) {
+        pooledSession.releaseChannel();
+
+        if (!pooledSession.isConnected()) {
+            evict(pooledSession);
+        }
+    }
+
+    /**
+     * 사용되지 않은 지 idle-timeout 이 지났거나 끊어진 세션을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${ssh.pool.eviction-interval-millis:60000}")
+    public void evictIdleSessions() {
+        long idleTimeoutMillis = TimeUnit.SECONDS.toMillis(idleTimeoutSeconds);
+
+        // 채널을 모두 가져온 세션만 정리하므로, 방금 이 세션을 고른 대여 요청과 겹치지 않습니다.
+        sessions.values().forEach(candidates -> candidates.stream()
+                .filter(pooled -> pooled.activeChannels() == 0)
+                .filter(pooled -> !pooled.isConnected() || pooled.idleMillis() > idleTimeoutMillis)
+                .filter(PooledSshSession::tryClose)
+                .forEach(this::evict));
+
+        sessions.forEach((key, candidates) -> {
+            synchronized (candidates) {
+                if (candidates.isEmpty() && !connecting.containsKey(key)) {
+                    sessions.remove(key, candidates);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    void closeAll() {
+        sessions.values().forEach(candidates -> candidates.forEach(PooledSshSession::disconnect));
+        sessions.clear();
+    }
+
+    private PooledSshSession reserveExisting(List<PooledSshSession> candidates) {
+        for (PooledSshSession pooled : candidates) {
+            if (!pooled.tryReserveChannel()) {
+                continue;
+            }
+            if (isHealthy(pooled)) {
+                return pooled;
+            }
+            pooled.releaseChannel();
+            evict(pooled);
+        }
+        return null;
+    }
+
+    /**
+     * 연결 중인 자리를 반납하고, 연결에 성공했으면 세션을 목록에 올립니다. 기다리던 대여 요청을 깨웁니다.
+     */
+    private void publish(SshSessionKey key, List<PooledSshSession> candidates, PooledSshSession created) {
+        synchronized (candidates) {
+            connecting.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+            if (created != null) {
+                candidates.add(created);
+            }
+            candidates.notifyAll();
+        }
+    }
+
+    private boolean isHealthy(PooledSshSession pooled) {
+        if (!pooled.isConnected()) {
+            return false;
+        }
+
+        // keepalive 주기보다 오래 쉬었던 세션은 채널을 하나 열어 응답이 오는지 확인합니다.
+        // (sendKeepAliveMsg 는 응답을 기다리지 않아 끊어진 상대를 잡지 못합니다.)
+        if (pooled.idleMillis() > TimeUnit.SECONDS.toMillis(keepAliveIntervalSeconds)) {
+            Channel probe = null;
+            try {
+                probe = pooled.getSession().openChannel("exec");
+                ((ChannelExec) probe).setCommand("true");
+                probe.connect(HEALTH_CHECK_TIMEOUT_MILLIS);
+                pooled.touch();
+            } catch (Exception e) {
+                log.warn("SSH 세션 상태 확인 실패: {}", pooled.getKey());
+                return false;
+            } finally {
+                if (probe != null) {
+                    probe.disconnect();
+                }
+            }
+        }
+        return true;
+    }
+
+    private PooledSshSession connect(SshSessionKey key, byte[] pemKey) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+
+        try {
+            log.info("SSH 연결 시도: {}", key.serverIp());
+            JSch jsch = new JSch();
+            jsch.addIdentity("ec2-key", pemKey, null, null);
+
+            Session session = jsch.getSession(SSH_USER, key.serverIp(), sshPort);
+            Properties cfg = new Properties();
+            cfg.put("StrictHostKeyChecking", "no");
+            session.setConfig(cfg);
+            session.setServerAliveInterval((int) TimeUnit.SECONDS.toMillis(keepAliveIntervalSeconds));
+            session.setServerAliveCountMax(3);
+            session.connect(CONNECT_TIMEOUT_MILLIS);
+            log.info("SSH 연결 성공: {}", key.serverIp());
+
+            outcome = "success";
+            return new PooledSshSession(key, session, maxChannelsPerSession);
+
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.CREATE_SSH_SESSION_FAILED);
+
+        } finally {
+            sample.stop(Timer.builder("ssh.session.connect")
+                    .description("SSH 연결(TCP + 키 교환) 소요 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void evict(PooledSshSession pooled) {
+        pooled.markClosed();
+        List<PooledSshSession> candidates = sessions.get(pooled.getKey());
+        if (candidates != null) {
+            candidates.remove(pooled);
+        }
+        pooled.disconnect();
+        log.info("SSH 세션 정리: {}", pooled.getKey());
+    }
+}
@@ -0,0 +1,6 @@
+package org.example.backend.common.ssh;
+
+public enum SshStreamType {
+    STDOUT,
+    STDERR
+}
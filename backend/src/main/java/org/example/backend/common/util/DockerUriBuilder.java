@@ -10,6 +10,7 @@ import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -171,4 +172,32 @@ public class DockerUriBuilder {
                 .toUri();
     }
 
+    public URI buildUpdateContainerUri(String serverIp, String containerId) {
+        String baseUrl = String.format("http://%s:%d", serverIp, engineApiPort);
+        return UriComponentsBuilder.fromUriString(baseUrl)
+                .path("/containers/{id}/update")
+                .buildAndExpand(containerId)
+                .toUri();
+    }
+
+    /**
+     * 정리(prune)용 URI
+     * POST /{containers|images|build}/prune?filters={"until":["24h"],...}
+     */
+    public URI buildPruneUri(String serverIp, String target, Map<String, List<String>> filters) {
+
+        String baseUrl = String.format("http://%s:%d", serverIp, engineApiPort);
+
+        String jsonFilter = filters.entrySet().stream()
+                .map(entry -> "\"" + entry.getKey() + "\":[" + entry.getValue().stream()
+                        .map(value -> "\"" + value + "\"")
+                        .collect(Collectors.joining(",")) + "]")
+                .collect(Collectors.joining(",", "{", "}"));
+
+        String encodedFilter = URLEncoder.encode(jsonFilter, StandardCharsets.UTF_8);
+
+        String uriStr = String.format("%s/%s/prune?filters=%s", baseUrl, target, encodedFilter);
+        return URI.create(uriStr);
+    }
+
 }
@@ -1,5 +1,9 @@
 package org.example.backend.common.util;
 
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
 public class JenkinsUriBuilder {
 
     private JenkinsUriBuilder() {}
@@ -12,6 +16,24 @@ public class JenkinsUriBuilder {
         return String.format("%s/job/%s/%d/consoleText", baseUrl, jobName, buildNumber);
     }
 
+    /**
+     * 빌드 목록 범위 조회용 URI (최신 빌드부터 from 이상 to 미만 번째)
+     * GET /job/{jobName}/api/json?tree=builds[...]{from,to}
+     * 중괄호가 URI 템플릿 변수로 해석되지 않도록 인코딩된 URI 로 반환합니다.
+     */
+    public static URI buildBuildRangeUri(String baseUrl, String jobName, String fields, int from, int to) {
+        String tree = URLEncoder.encode("builds[" + fields + "]{" + from + "," + to + "}", StandardCharsets.UTF_8);
+        return URI.create(String.format("%s/job/%s/api/json?tree=%s", baseUrl, jobName, tree));
+    }
+
+    public static String buildProgressiveLogUri(String baseUrl, String jobName, int buildNumber, long start) {
+        return String.format("%s/job/%s/%d/logText/progressiveText?start=%d", baseUrl, jobName, buildNumber, start);
+    }
+
+    public static String buildQueueItemUri(String baseUrl, long queueId, String path) {
+        return String.format("%s/queue/item/%d/%s", baseUrl, queueId, path);
+    }
+
     public static String buildTriggerUri(String baseUrl, String jobName) {
         return baseUrl + "/job/" + jobName + "/buildWithParameters";
     }
@@ -0,0 +1,37 @@
+package org.example.backend.common.util;
+
+/**
+ * 생성하는 Nginx 설정의 성능 프로파일.
+ * 대상 서버의 CPU 수에 맞춰 워커 연결 수, upstream keepalive 풀, open_file_cache 크기를 정합니다.
+ *
+ * @param cpuCount 대상 서버의 CPU 수 (nproc)
+ */
+public record NginxPerformanceProfile(int cpuCount) {
+
+    public NginxPerformanceProfile {
+        cpuCount = Math.max(1, cpuCount);
+    }
+
+    // 워커당 동시 연결 수. 프록시 요청 하나가 클라이언트/upstream 연결 두 개를 쓰므로 여유 있게 잡습니다.
+    public int workerConnections() {
+        return clamp(1024 * cpuCount, 1024, 16384);
+    }
+
+    // 워커가 열 수 있는 파일 디스크립터 수 (연결 수의 2배)
+    public int workerRlimitNofile() {
+        return workerConnections() * 2;
+    }
+
+    // upstream 마다 워커별로 유지할 유휴 keepalive 연결 수
+    public int upstreamKeepalive() {
+        return clamp(16 * cpuCount, 16, 128);
+    }
+
+    public int openFileCacheMax() {
+        return clamp(1000 * cpuCount, 1000, 10000);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
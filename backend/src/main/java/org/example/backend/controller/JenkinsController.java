@@ -5,11 +5,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.controller.response.jenkins.*;
+import org.example.backend.domain.jenkins.service.JenkinsLogStreamService;
 import org.example.backend.domain.jenkins.service.JenkinsService;
 import org.example.backend.global.response.ApiResponse;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -20,9 +23,10 @@ import java.util.List;
 public class JenkinsController {
 
     private final JenkinsService jenkinsService;
+    private final JenkinsLogStreamService jenkinsLogStreamService;
 
     @GetMapping("/{projectId}/builds")
-    @Operation(summary = "빌드 목록 조회", description = "전체 빌드 기록 목록을 조회합니다. (커서 방식)")
+    @Operation(summary = "빌드 목록 조회", description = "빌드 기록 목록을 최신순으로 조회합니다. (커서 방식: start 에 이전 응답의 nextStart 를 넣으면 그 빌드 번호보다 오래된 빌드를 조회, 0 이면 최신부터)")
     public JenkinsBuildPageResponse getBuildList(
             @PathVariable Long projectId,
             @RequestParam(defaultValue = "0") int start,
@@ -55,6 +59,15 @@ public class JenkinsController {
         return jenkinsService.getBuildLog(buildNumber, projectId, accessToken);
     }
 
+    @Operation(summary = "빌드 콘솔 로그 스트리밍", description = "start(byte) 이후의 콘솔 로그를 SSE(log 이벤트)로 전송합니다. 진행 중인 빌드는 새로 쌓인 부분만 이어서 보내고, 빌드가 끝나면 end 이벤트를 보낸 뒤 스트림을 닫습니다. 재연결 시 마지막 log 이벤트의 nextOffset 을 start 로 넘깁니다.")
+    @GetMapping(value = "/{projectId}/builds/{buildNumber}/log/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBuildLog(@PathVariable Long projectId,
+                                     @PathVariable int buildNumber,
+                                     @RequestParam(defaultValue = "0") long start,
+                                     @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
+        return jenkinsLogStreamService.streamBuildLog(projectId, buildNumber, start, accessToken);
+    }
+
     @Operation(summary = "빌드 상태 조회", description = "특정 빌드 번호의 SUCCESS/FAILURE 상태를 조회합니다.")
     @GetMapping("/{projectId}/builds/{buildNumber}/status")
     public String getBuildStatus(@PathVariable Long projectId,
@@ -104,11 +117,13 @@ public class JenkinsController {
         return ResponseEntity.ok(log);
     }
 
+    @Operation(summary = "빌드 완료 콜백", description = "Jenkinsfile post 단계에서 호출합니다. buildNumber 는 힌트로만 쓰고(없으면 마지막 빌드), 완료 여부와 결과는 Jenkins 에서 확인해 기록합니다.")
     @PostMapping("/{projectId}/log-last-build")
     public ResponseEntity<ApiResponse<Void>> logLastBuildResultToProject(
-            @PathVariable Long projectId
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Integer buildNumber
     ) {
-        jenkinsService.logLastBuildResultToProject(projectId);
+        jenkinsService.logLastBuildResultToProject(projectId, buildNumber);
         return ResponseEntity.ok(ApiResponse.success());
     }
 
@@ -3,15 +3,27 @@ package org.example.backend.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.controller.request.server.*;
+import org.example.backend.controller.response.log.HttpsLogPageResponse;
 import org.example.backend.controller.response.log.HttpsLogResponse;
-import org.example.backend.domain.project.service.ProjectService;
+import org.example.backend.controller.response.server.ContainerCapacityPlanResponse;
+import org.example.backend.controller.response.server.ProvisioningBatchResponse;
+import org.example.backend.controller.response.server.ProvisioningJobResponse;
+import org.example.backend.controller.response.server.ProvisioningStepStatsResponse;
+import org.example.backend.controller.response.server.ProvisioningStepTimelineResponse;
+import org.example.backend.controller.response.server.ServerHousekeepingResponse;
+import org.example.backend.domain.server.service.ContainerCapacityService;
 import org.example.backend.domain.server.service.HttpsLogService;
+import org.example.backend.domain.server.service.ProvisioningJobService;
+import org.example.backend.domain.server.service.ServerHousekeepingService;
 import org.example.backend.domain.server.service.ServerService;
 import org.example.backend.global.response.ApiResponse;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -21,31 +33,157 @@ import java.util.List;
 public class ServerController {
 
     private final ServerService serverService;
-    private final ProjectService projectService;
     private final HttpsLogService httpsLogService;
+    private final ProvisioningJobService provisioningJobService;
+    private final ContainerCapacityService containerCapacityService;
+    private final ServerHousekeepingService serverHousekeepingService;
 
+    @Operation(summary = "자동 배포 세팅 요청", description = "자동 배포 세팅 작업을 대기열에 등록하고 작업 ID를 반환합니다.")
     @PostMapping("/deployment")
-    public ResponseEntity<ApiResponse<Void>> registerDeployment(
+    public ResponseEntity<ApiResponse<ProvisioningJobResponse>> registerDeployment(
             @RequestParam Long projectId,
             @RequestPart("pemFile") MultipartFile pemFile,
             @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
 
-        serverService.registerDeployment(projectId, pemFile, accessToken);
+        ProvisioningJobResponse response = serverService.registerDeployment(projectId, pemFile, accessToken);
 
-        return ResponseEntity.ok(ApiResponse.success());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(response));
     }
 
+    @Operation(summary = "일괄 자동 배포 세팅 요청", description = "여러 프로젝트의 자동 배포 세팅을 한 번에 등록합니다. projectIds 와 pemFiles 는 같은 순서로 전달해야 합니다.")
+    @PostMapping("/deployment/bulk")
+    public ResponseEntity<ApiResponse<ProvisioningBatchResponse>> registerDeployments(
+            @RequestParam List<Long> projectIds,
+            @RequestPart("pemFiles") List<MultipartFile> pemFiles,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
+
+        ProvisioningBatchResponse response = serverService.registerDeployments(projectIds, pemFiles, accessToken);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "일괄 자동 배포 결과 조회", description = "일괄 요청의 전체 진행률과 프로젝트별 결과를 조회합니다.")
+    @GetMapping("/deployment/bulk/{batchId}")
+    public ResponseEntity<ApiResponse<ProvisioningBatchResponse>> getBatch(
+            @PathVariable String batchId,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
+
+        ProvisioningBatchResponse response = provisioningJobService.getBatch(batchId, accessToken);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "일괄 자동 배포 진행 상황 스트리밍", description = "모든 작업이 끝날 때까지 진행 상황을 SSE(progress 이벤트)로 전송합니다.")
+    @GetMapping(value = "/deployment/bulk/{batchId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBatch(
+            @PathVariable String batchId,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
+
+        return provisioningJobService.streamBatch(batchId, accessToken);
+    }
+
+    @Operation(summary = "HTTPS 전환 요청", description = "HTTPS 전환 작업을 대기열에 등록하고 작업 ID를 반환합니다.")
     @PostMapping(value = "/convert")
-    public ResponseEntity<ApiResponse<String>> convertHttps(
+    public ResponseEntity<ApiResponse<ProvisioningJobResponse>> convertHttps(
             @RequestPart("request") HttpsConvertRequest request,
             @RequestPart("pemFile") MultipartFile pemFile,
             @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
 
-        serverService.convertHttpToHttps(request, pemFile, accessToken);
+        ProvisioningJobResponse response = serverService.convertHttpToHttps(request, pemFile, accessToken);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "프로비저닝 작업 조회", description = "작업 ID 기준으로 상태, 현재 단계, 진행률을 조회합니다.")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<ProvisioningJobResponse>> getJob(
+            @PathVariable Long jobId,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
+
+        ProvisioningJobResponse response = provisioningJobService.getJob(jobId, accessToken);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "프로비저닝 작업 단계 타임라인 조회", description = "작업에서 실행된 단계별 시작/종료 시각, 소요 시간, 출력 크기를 조회합니다.")
+    @GetMapping("/jobs/{jobId}/timeline")
+    public ResponseEntity<ApiResponse<List<ProvisioningStepTimelineResponse>>> getJobTimeline(
+            @PathVariable Long jobId,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
+
+        List<ProvisioningStepTimelineResponse> response = provisioningJobService.getJobTimeline(jobId, accessToken);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "프로비저닝 단계 소요 시간 통계", description = "최근 days 일 동안 프로젝트에서 성공한 단계의 p50/p95 소요 시간을 p95 내림차순으로 조회합니다.")
+    @GetMapping("/{projectId}/jobs/step-stats")
+    public ResponseEntity<ApiResponse<List<ProvisioningStepStatsResponse>>> getStepStats(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "30") int days,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
+
+        List<ProvisioningStepStatsResponse> response = provisioningJobService.getStepStats(projectId, days, accessToken);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "프로젝트 프로비저닝 작업 목록 조회", description = "프로젝트의 최근 프로비저닝 작업 20건을 조회합니다.")
+    @GetMapping("/{projectId}/jobs")
+    public ResponseEntity<ApiResponse<List<ProvisioningJobResponse>>> getJobs(
+            @PathVariable Long projectId,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
+
+        List<ProvisioningJobResponse> response = provisioningJobService.getJobs(projectId, accessToken);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "컨테이너 자원 계획 미리보기", description = "서버 CPU/메모리를 기준으로 컨테이너별 메모리/CPU 제한과 JVM 옵션 계획을 계산합니다. 아직 적용하지 않습니다.")
+    @GetMapping("/{projectId}/capacity-plan")
+    public ResponseEntity<ApiResponse<ContainerCapacityPlanResponse>> previewCapacityPlan(
+            @PathVariable Long projectId,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
+
+        ContainerCapacityPlanResponse response = containerCapacityService.previewPlan(projectId, accessToken);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "컨테이너 자원 계획 적용", description = "미리보기에서 받은 planHash 로 계획을 적용합니다. 메모리/CPU 제한은 실행 중인 컨테이너에 바로 반영되고, JVM 옵션과 Jenkinsfile 의 docker run 옵션은 자동 배포 세팅을 다시 실행하면 바뀐 단계만 재적용됩니다.")
+    @PostMapping("/{projectId}/capacity-plan")
+    public ResponseEntity<ApiResponse<ContainerCapacityPlanResponse>> applyCapacityPlan(
+            @PathVariable Long projectId,
+            @RequestParam String planHash,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
+
+        ContainerCapacityPlanResponse response = containerCapacityService.applyPlan(projectId, planHash, accessToken);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "서버 도커 정리", description = "보존 기간이 지난 dangling 이미지와 빌드 캐시(설정 시 중지된 컨테이너 포함)를 정리하고 확보한 디스크 용량을 반환합니다.")
+    @PostMapping("/{projectId}/housekeeping")
+    public ResponseEntity<ApiResponse<ServerHousekeepingResponse>> runHousekeeping(
+            @PathVariable Long projectId,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
+
+        ServerHousekeepingResponse response = serverHousekeepingService.runHousekeeping(projectId, accessToken);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "HTTPS 로그 본문 페이지 조회", description = "로그 원문을 offset(byte) 부터 최대 limit(byte) 만큼 조회합니다. 다음 페이지는 응답의 nextOffset 으로 요청합니다.")
+    @GetMapping("/logs/{logId}")
+    public ResponseEntity<ApiResponse<HttpsLogPageResponse>> getLogPage(
+            @PathVariable Long logId,
+            @RequestParam(defaultValue = "0") long offset,
+            @RequestParam(defaultValue = "65536") int limit,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
 
-        projectService.markHttpsConverted(request.getProjectId());
+        HttpsLogPageResponse response = httpsLogService.getLogPage(logId, offset, limit, accessToken);
 
-        return ResponseEntity.ok(ApiResponse.success("https 설정 완료"));
+        return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @Operation(summary = "HTTPS 로그 조회", description = "프로젝트 ID 기준으로 HTTPS 설정 로그를 조회합니다.")
@@ -20,5 +20,7 @@ public class ProjectCreateRequest {
     private String frontendFramework;
     private String jdkVersion;
     private String jdkBuildTool;
+    private Integer backendReplicas;
+    private Integer frontendReplicas;
     private List<ApplicationRequest> applicationList;
 }
@@ -7,5 +7,7 @@ import java.util.List;
 @Getter
 public class ProjectUpdateRequest {
     private String serverIP;
+    private Integer backendReplicas;
+    private Integer frontendReplicas;
     private List<ApplicationRequest> applications;
 }
@@ -20,4 +20,11 @@ public class DemonContainerStateCountResponse {
     @JsonProperty("ContainersStopped")
     private int containersStopped;
 
+    // 컨테이너 자원 계획(ContainerCapacityPlanner)에 쓰는 호스트 CPU 수 / 전체 메모리(byte)
+    @JsonProperty("NCPU")
+    private int ncpu;
+
+    @JsonProperty("MemTotal")
+    private long memTotal;
+
 }
@@ -11,4 +11,6 @@ public class JenkinsBuildPageResponse {
     private List<JenkinsBuildListResponse> builds;
     private boolean hasNext;
     private Integer nextStart;
+    // Jenkins 동기화에 실패해 이전에 받아둔 인덱스로 응답했으면 true
+    private boolean stale;
 }
\ No newline at end of file
@@ -13,5 +13,7 @@ public class JenkinsBuildStepResponse {
     private String stepName;
     private String duration;
     private String status;
+    // 스테이지 로그 안의 에러 표시 줄 수 (ERROR, Exception, FAILED 등)
+    private int errorCount;
     private List<JenkinsBuildEchoResponse> echoList;
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package org.example.backend.controller.response.jenkins;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class JenkinsLogChunkResponse {
+    // 이 조각이 시작하는 로그 위치(byte)
+    private long offset;
+    // 재연결 시 start 로 넘길 위치(byte)
+    private long nextOffset;
+    private String text;
+}
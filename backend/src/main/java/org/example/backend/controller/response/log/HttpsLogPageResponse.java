@@ -0,0 +1,16 @@
+package org.example.backend.controller.response.log;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class HttpsLogPageResponse {
+    private Long logId;
+    private long offset;
+    // 다음 페이지 요청에 넘길 offset
+    private long nextOffset;
+    private long totalBytes;
+    private boolean hasMore;
+    private String content;
+}
@@ -8,9 +8,13 @@ import java.time.LocalDateTime;
 @Getter
 @Builder
 public class HttpsLogResponse {
+    private Long logId;
     private int stepNumber;
     private String stepName;
+    // 로그가 크면 마지막 일부만 담기며, 전체는 logId 로 페이지 단위 조회합니다.
     private String logContent;
+    private boolean truncated;
+    private long totalBytes;
     private String status;
     private LocalDateTime createdAt;
 }
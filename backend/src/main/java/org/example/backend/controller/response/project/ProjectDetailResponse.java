@@ -31,6 +31,8 @@ public class ProjectDetailResponse {
     private String frontendEnvFilePath;
     private String jdkVersion;
     private String jdkBuildTool;
+    private int backendReplicas;
+    private int frontendReplicas;
     private String backendEnvFilePath;
 
     private String domainName;
@@ -0,0 +1,40 @@
+package org.example.backend.controller.response.server;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.backend.domain.server.capacity.ContainerCapacityPlan;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class ContainerCapacityPlanResponse {
+    private Long projectId;
+    private int cpuCount;
+    private long memoryTotalMb;
+    private long reservedMemoryMb;
+    private long plannedMemoryMb;
+    private boolean overcommitted;
+    // 적용 요청 시 그대로 돌려보내야 하는 값
+    private String planHash;
+    // 미리보기면 null
+    private LocalDateTime appliedAt;
+    private List<ContainerResourceResponse> containers;
+
+    public static ContainerCapacityPlanResponse of(Long projectId, ContainerCapacityPlan plan, LocalDateTime appliedAt) {
+        return ContainerCapacityPlanResponse.builder()
+                .projectId(projectId)
+                .cpuCount(plan.cpuCount())
+                .memoryTotalMb(plan.memoryTotalMb())
+                .reservedMemoryMb(plan.reservedMemoryMb())
+                .plannedMemoryMb(plan.plannedMemoryMb())
+                .overcommitted(plan.overcommitted())
+                .planHash(plan.planHash())
+                .appliedAt(appliedAt)
+                .containers(plan.allocations().stream()
+                        .map(ContainerResourceResponse::from)
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.backend.controller.response.server;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.backend.common.util.ServerAutoDeploymentFileManagerUtil;
+import org.example.backend.domain.server.capacity.ContainerCapacityPlan;
+import org.example.backend.domain.server.capacity.ContainerWorkload;
+
+@Getter
+@Builder
+public class ContainerResourceResponse {
+    private String containerName;
+    private ContainerWorkload workload;
+    private int replicas;
+    private int memoryMb;
+    private double cpus;
+    private String jvmOptions;
+    // 배포 시 docker run 에 붙는 옵션
+    private String runOptions;
+
+    public static ContainerResourceResponse from(ContainerCapacityPlan.Allocation allocation) {
+        return ContainerResourceResponse.builder()
+                .containerName(allocation.containerName())
+                .workload(allocation.workload())
+                .replicas(allocation.replicas())
+                .memoryMb(allocation.memoryMb())
+                .cpus(allocation.cpus())
+                .jvmOptions(allocation.jvmOptions())
+                .runOptions(ServerAutoDeploymentFileManagerUtil.createResourceRunOptions(allocation.memoryMb(), allocation.cpus(), allocation.jvmOptions()))
+                .build();
+    }
+}
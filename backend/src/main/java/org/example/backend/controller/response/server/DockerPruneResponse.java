@@ -0,0 +1,25 @@
+package org.example.backend.controller.response.server;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.backend.domain.docker.dto.DockerPruneResult;
+import org.example.backend.domain.docker.enums.DockerPruneTarget;
+
+@Getter
+@Builder
+public class DockerPruneResponse {
+    private DockerPruneTarget target;
+    // 이 기간보다 오래된 항목만 정리 (Docker until 필터)
+    private String retention;
+    private int deletedCount;
+    private long reclaimedBytes;
+
+    public static DockerPruneResponse of(DockerPruneTarget target, String retention, DockerPruneResult result) {
+        return DockerPruneResponse.builder()
+                .target(target)
+                .retention(retention)
+                .deletedCount(result == null ? 0 : result.deletedCount())
+                .reclaimedBytes(result == null ? 0 : result.getSpaceReclaimed())
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.backend.controller.response.server;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.backend.domain.server.enums.ProvisioningJobStatus;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ProvisioningBatchResponse {
+    private String batchId;
+    private int total;
+    private int queued;
+    private int running;
+    private int succeeded;
+    private int failed;
+
+    // 전체 진행률 (끝난 작업은 성공/실패와 관계없이 100 으로 계산)
+    private int progress;
+    private boolean finished;
+
+    // 프로젝트별 결과
+    private List<ProvisioningJobResponse> jobs;
+
+    public static ProvisioningBatchResponse from(String batchId, List<ProvisioningJobResponse> jobs) {
+        int progressSum = jobs.stream()
+                .mapToInt(job -> isFinished(job) ? 100 : job.getProgress())
+                .sum();
+
+        return ProvisioningBatchResponse.builder()
+                .batchId(batchId)
+                .total(jobs.size())
+                .queued(count(jobs, ProvisioningJobStatus.QUEUED))
+                .running(count(jobs, ProvisioningJobStatus.RUNNING))
+                .succeeded(count(jobs, ProvisioningJobStatus.SUCCEEDED))
+                .failed(count(jobs, ProvisioningJobStatus.FAILED))
+                .progress(jobs.isEmpty() ? 100 : progressSum / jobs.size())
+                .finished(jobs.stream().allMatch(ProvisioningBatchResponse::isFinished))
+                .jobs(jobs)
+                .build();
+    }
+
+    private static int count(List<ProvisioningJobResponse> jobs, ProvisioningJobStatus status) {
+        return (int) jobs.stream().filter(job -> job.getStatus() == status).count();
+    }
+
+    private static boolean isFinished(ProvisioningJobResponse job) {
+        return job.getStatus() == ProvisioningJobStatus.SUCCEEDED || job.getStatus() == ProvisioningJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.backend.controller.response.server;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.backend.domain.project.enums.ServerStatus;
+import org.example.backend.domain.server.entity.ProvisioningJob;
+import org.example.backend.domain.server.enums.ProvisioningJobStatus;
+import org.example.backend.domain.server.enums.ProvisioningJobType;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ProvisioningJobResponse {
+    private Long jobId;
+    private Long projectId;
+    private String batchId;
+    private ProvisioningJobType jobType;
+    private ProvisioningJobStatus status;
+    private ServerStatus currentStep;
+    private int progress;
+    private Integer errorCode;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static ProvisioningJobResponse from(ProvisioningJob job) {
+        return ProvisioningJobResponse.builder()
+                .jobId(job.getId())
+                .projectId(job.getProjectId())
+                .batchId(job.getBatchId())
+                .jobType(job.getJobType())
+                .status(job.getStatus())
+                .currentStep(job.getCurrentStep())
+                .progress(job.getProgress())
+                .errorCode(job.getErrorCode())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.backend.controller.response.server;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.backend.domain.server.enums.ProvisioningJobType;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ProvisioningStepStatsResponse {
+    private ProvisioningJobType jobType;
+    private String stepName;
+    private int count;
+    private long p50Millis;
+    private long p95Millis;
+    private long maxMillis;
+
+    // durations 는 오름차순으로 정렬되어 있어야 합니다.
+    public static ProvisioningStepStatsResponse of(ProvisioningJobType jobType, String stepName, List<Long> durations) {
+        return ProvisioningStepStatsResponse.builder()
+                .jobType(jobType)
+                .stepName(stepName)
+                .count(durations.size())
+                .p50Millis(percentile(durations, 50))
+                .p95Millis(percentile(durations, 95))
+                .maxMillis(durations.get(durations.size() - 1))
+                .build();
+    }
+
+    // nearest-rank 방식
+    private static long percentile(List<Long> sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.size());
+        return sorted.get(Math.max(rank, 1) - 1);
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.backend.controller.response.server;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.backend.domain.server.entity.ProvisioningStepTimeline;
+import org.example.backend.domain.server.enums.ProvisioningStepOutcome;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ProvisioningStepTimelineResponse {
+    private String stepName;
+    private ProvisioningStepOutcome outcome;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long durationMillis;
+    private int commandCount;
+    private long outputBytes;
+
+    public static ProvisioningStepTimelineResponse from(ProvisioningStepTimeline timeline) {
+        return ProvisioningStepTimelineResponse.builder()
+                .stepName(timeline.getStepName())
+                .outcome(timeline.getOutcome())
+                .startedAt(timeline.getStartedAt())
+                .finishedAt(timeline.getFinishedAt())
+                .durationMillis(timeline.getDurationMillis())
+                .commandCount(timeline.getCommandCount())
+                .outputBytes(timeline.getOutputBytes())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.backend.controller.response.server;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class ServerHousekeepingResponse {
+    private String serverIp;
+    private long reclaimedBytes;
+    private LocalDateTime executedAt;
+    private List<DockerPruneResponse> results;
+
+    public static ServerHousekeepingResponse of(String serverIp, List<DockerPruneResponse> results, LocalDateTime executedAt) {
+        return ServerHousekeepingResponse.builder()
+                .serverIp(serverIp)
+                .reclaimedBytes(results.stream().mapToLong(DockerPruneResponse::getReclaimedBytes).sum())
+                .executedAt(executedAt)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.backend.domain.docker.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /containers/prune, /images/prune, /build/prune 응답.
+ * 대상마다 삭제 목록 필드 이름이 달라서 모두 받아두고, 필요한 것만 씁니다.
+ */
+@Data
+public class DockerPruneResult {
+
+    @JsonProperty("ContainersDeleted")
+    private List<String> containersDeleted;
+
+    // 항목마다 {"Untagged": ...} 또는 {"Deleted": ...}
+    @JsonProperty("ImagesDeleted")
+    private List<Map<String, String>> imagesDeleted;
+
+    @JsonProperty("CachesDeleted")
+    private List<String> cachesDeleted;
+
+    @JsonProperty("SpaceReclaimed")
+    private long spaceReclaimed;
+
+    public int deletedCount() {
+        if (containersDeleted != null) {
+            return containersDeleted.size();
+        }
+        if (imagesDeleted != null) {
+            return (int) imagesDeleted.stream().filter(image -> image.containsKey("Deleted")).count();
+        }
+        return cachesDeleted == null ? 0 : cachesDeleted.size();
+    }
+}
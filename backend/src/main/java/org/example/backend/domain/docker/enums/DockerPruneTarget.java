@@ -0,0 +1,17 @@
+package org.example.backend.domain.docker.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Docker Engine API 의 정리(prune) 대상. path 는 /{path}/prune 경로에 그대로 쓰입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DockerPruneTarget {
+    CONTAINERS("containers"),
+    IMAGES("images"),
+    BUILD_CACHE("build");
+
+    private final String path;
+}
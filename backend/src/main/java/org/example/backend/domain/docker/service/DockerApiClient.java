@@ -4,9 +4,12 @@ import org.example.backend.controller.request.docker.DockerContainerLogRequest;
 import org.example.backend.controller.response.docker.DemonContainerStateCountResponse;
 import org.example.backend.controller.response.docker.ImageResponse;
 import org.example.backend.domain.docker.dto.ContainerDto;
+import org.example.backend.domain.docker.dto.DockerPruneResult;
 import org.example.backend.domain.docker.dto.DockerTag;
+import org.example.backend.domain.docker.enums.DockerPruneTarget;
 
 import java.util.List;
+import java.util.Map;
 
 public interface DockerApiClient {
     ImageResponse getImages(String query, int page, int pageSize);
@@ -19,4 +22,6 @@ public interface DockerApiClient {
     void startContainer(String serverIp, String containerId);
     void pauseContainer(String serverIp, String containerId);
     void stopContainer(String serverIp, String containerId);
+    void updateContainerResources(String serverIp, String containerId, long memoryBytes, long nanoCpus);
+    DockerPruneResult prune(String serverIp, DockerPruneTarget target, Map<String, List<String>> filters);
 }
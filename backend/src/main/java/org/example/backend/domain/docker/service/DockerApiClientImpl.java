@@ -9,6 +9,7 @@ import org.example.backend.controller.request.docker.DockerContainerLogRequest;
 import org.example.backend.controller.response.docker.DemonContainerStateCountResponse;
 import org.example.backend.controller.response.docker.ImageResponse;
 import org.example.backend.domain.docker.dto.*;
+import org.example.backend.domain.docker.enums.DockerPruneTarget;
 import org.example.backend.global.exception.BusinessException;
 import org.example.backend.global.exception.ErrorCode;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -160,6 +161,41 @@ public class DockerApiClientImpl implements DockerApiClient {
                 .block();
     }
 
+    @Override
+    public void updateContainerResources(String serverIp, String containerId, long memoryBytes, long nanoCpus) {
+        URI uri = uriBuilder.buildUpdateContainerUri(serverIp, containerId);
+        log.debug(">> 컨테이너 자원 제한 변경 URI: {}", uri);
+
+        // MemorySwap 을 Memory 와 같게 두어 컨테이너가 스왑을 쓰지 않게 합니다.
+        Map<String, Long> body = Map.of(
+                "Memory", memoryBytes,
+                "MemorySwap", memoryBytes,
+                "NanoCpus", nanoCpus
+        );
+
+        WebClient client = webClientBuilder.build();
+        client.post()
+                .uri(uri)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+    }
+
+    @Override
+    public DockerPruneResult prune(String serverIp, DockerPruneTarget target, Map<String, List<String>> filters) {
+        URI uri = uriBuilder.buildPruneUri(serverIp, target.getPath(), filters);
+        log.debug(">> 도커 정리 URI: {}", uri);
+
+        WebClient client = webClientBuilder.build();
+        return client.post()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(DockerPruneResult.class)
+                .block();
+    }
+
     /* 공통 로직 */
     /**
      * 디폴트 포트 처리 로직
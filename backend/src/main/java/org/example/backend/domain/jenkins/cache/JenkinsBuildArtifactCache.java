@@ -0,0 +1,232 @@
+package org.example.backend.domain.jenkins.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.jenkins.entity.JenkinsInfo;
+import org.example.backend.domain.jenkins.enums.JenkinsBuildArtifact;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 끝난 빌드의 Jenkins 산출물(콘솔 로그, wfapi/describe, api/json, changeSets) 2단 캐시.
+ * 1단은 크기 제한이 있는 메모리 LRU, 2단은 gzip 으로 압축해 Redis 에 TTL 과 함께 저장합니다.
+ * 결과가 확정된 빌드만 저장하므로, 한 번 본 빌드 이력은 다시 Jenkins 를 호출하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JenkinsBuildArtifactCache {
+
+    private static final String KEY_PREFIX = "jenkins:artifact:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jenkins.artifact-cache.memory-max-bytes:33554432}")
+    private long memoryMaxBytes;
+
+    // 이보다 큰 산출물은 캐시하지 않고 매번 Jenkins 에서 받습니다.
+    @Value("${jenkins.artifact-cache.max-entry-bytes:8388608}")
+    private int maxEntryBytes;
+
+    @Value("${jenkins.artifact-cache.redis-enabled:true}")
+    private boolean redisEnabled;
+
+    @Value("${jenkins.artifact-cache.redis-ttl-hours:168}")
+    private long redisTtlHours;
+
+    // access-order LRU. 값은 UTF-8 바이트로 담아 크기 합을 그대로 셉니다.
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("jenkins.artifact.cache.memory.bytes", this, JenkinsBuildArtifactCache::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 찾고, 없으면 loader 로 받아옵니다. finished 가 true 일 때만 받아온 값을 저장합니다.
+     */
+    public String get(JenkinsInfo info, int buildNumber, JenkinsBuildArtifact artifact, boolean finished, Supplier<String> loader) {
+        Optional<String> cached = find(info, buildNumber, artifact);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        String value = loader.get();
+        if (finished) {
+            put(info, buildNumber, artifact, value);
+        }
+        return value;
+    }
+
+    public Optional<String> find(JenkinsInfo info, int buildNumber, JenkinsBuildArtifact artifact) {
+        String key = key(info, buildNumber, artifact);
+
+        byte[] bytes;
+        synchronized (this) {
+            bytes = memory.get(key);
+        }
+        if (bytes != null) {
+            record("memory", "hit", artifact);
+            return Optional.of(new String(bytes, StandardCharsets.UTF_8));
+        }
+        record("memory", "miss", artifact);
+
+        if (!redisEnabled) {
+            return Optional.empty();
+        }
+
+        try {
+            String encoded = redisTemplate.opsForValue().get(key);
+            if (encoded == null) {
+                record("redis", "miss", artifact);
+                return Optional.empty();
+            }
+            bytes = gunzip(Base64.getDecoder().decode(encoded));
+        } catch (RuntimeException e) {
+            // Redis 장애나 깨진 항목은 캐시 미스로 취급하고 Jenkins 에서 받습니다.
+            log.warn("⚠️ Jenkins 산출물 캐시(Redis) 조회 실패: key={}, error={}", key, e.getMessage());
+            return Optional.empty();
+        }
+        record("redis", "hit", artifact);
+
+        putMemory(key, bytes);
+        return Optional.of(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    public void put(JenkinsInfo info, int buildNumber, JenkinsBuildArtifact artifact, String value) {
+        if (value == null) {
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > maxEntryBytes) {
+            return;
+        }
+
+        String key = key(info, buildNumber, artifact);
+        putMemory(key, bytes);
+
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            String encoded = Base64.getEncoder().encodeToString(gzip(bytes));
+            redisTemplate.opsForValue().set(key, encoded, redisTtlHours, TimeUnit.HOURS);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Jenkins 산출물 캐시(Redis) 저장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 잡을 새로 만들면 빌드 번호가 1부터 다시 시작하므로, 이전 잡의 산출물이 새 빌드로 보이지 않도록 프로젝트 항목을 모두 지웁니다.
+     */
+    public void evictProject(Long projectId) {
+        String prefix = KEY_PREFIX + projectId + ":";
+
+        synchronized (this) {
+            Iterator<Map.Entry<String, byte[]>> iterator = memory.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, byte[]> entry = iterator.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    memoryBytes -= entry.getValue().length;
+                    iterator.remove();
+                }
+            }
+        }
+
+        if (!redisEnabled) {
+            return;
+        }
+        // KEYS 는 Redis 를 막으므로 SCAN 으로 나눠서 찾습니다.
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(prefix + "*").count(500).build())) {
+            cursor.forEachRemaining(keys::add);
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Jenkins 산출물 캐시(Redis) 삭제 실패: projectId={}, error={}", projectId, e.getMessage());
+        }
+    }
+
+    private synchronized void putMemory(String key, byte[] bytes) {
+        byte[] previous = memory.put(key, bytes);
+        memoryBytes += bytes.length - (previous == null ? 0 : previous.length);
+
+        Iterator<Map.Entry<String, byte[]>> eldest = memory.entrySet().iterator();
+        while (memoryBytes > memoryMaxBytes && eldest.hasNext()) {
+            Map.Entry<String, byte[]> entry = eldest.next();
+            if (entry.getKey().equals(key)) {
+                continue;
+            }
+            memoryBytes -= entry.getValue().length;
+            eldest.remove();
+            Counter.builder("jenkins.artifact.cache.evictions")
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private synchronized double memoryBytes() {
+        return memoryBytes;
+    }
+
+    private void record(String tier, String result, JenkinsBuildArtifact artifact) {
+        Counter.builder("jenkins.artifact.cache.requests")
+                .tag("tier", tier)
+                .tag("result", result)
+                .tag("artifact", artifact.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String key(JenkinsInfo info, int buildNumber, JenkinsBuildArtifact artifact) {
+        return KEY_PREFIX + info.getProjectId() + ":" + info.getJobName() + "#" + buildNumber + ":" + artifact.name();
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
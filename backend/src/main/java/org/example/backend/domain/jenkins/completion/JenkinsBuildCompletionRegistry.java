@@ -0,0 +1,261 @@
+package org.example.backend.domain.jenkins.completion;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.jenkins.entity.JenkinsInfo;
+import org.example.backend.domain.jenkins.service.JenkinsClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * (프로젝트, 빌드 번호)별 빌드 완료 대기 목록.
+ * 호출자는 빌드 결과(SUCCESS, FAILURE 등)로 완료되는 future 를 받고, 빌드가 끝날 때까지 스레드를 잡고 있지 않습니다.
+ * 완료 여부는 항상 Jenkins 에서 확인합니다(building=false 이고 result 가 있을 때).
+ * log-last-build 콜백은 인증되지 않은 요청이므로 결과로 쓰지 않고, 바로 다시 확인하라는 신호로만 씁니다.
+ * 콜백이 유실될 때를 대비해 점점 간격을 늘리며 폴링합니다.
+ * 트리거한 빌드의 번호는 nextBuildNumber 를 미리 읽으면 동시에 시작된 빌드와 겹칠 수 있으므로,
+ * 트리거 응답의 큐 항목이 실제로 받은 executable.number 로 확정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JenkinsBuildCompletionRegistry {
+
+    private final JenkinsClient jenkinsClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${jenkins.build-completion.initial-poll-seconds:10}")
+    private long initialPollSeconds;
+
+    @Value("${jenkins.build-completion.max-poll-seconds:60}")
+    private long maxPollSeconds;
+
+    // 이 시간이 지나도 끝나지 않으면 TimeoutException 으로 완료
+    @Value("${jenkins.build-completion.max-wait-seconds:1800}")
+    private long maxWaitSeconds;
+
+    @Value("${jenkins.build-completion.executor-threads:4}")
+    private int executorThreads;
+
+    @Value("${jenkins.build-completion.executor-queue-capacity:500}")
+    private int executorQueueCapacity;
+
+    private final Map<String, Waiter> waiters = new ConcurrentHashMap<>();
+
+    // 폴링은 짧은 Jenkins 요청만 하므로 스레드 하나로 충분합니다.
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("jenkins-build-poll-"));
+
+    // future 의 후속 작업(결과 저장)은 콜백 요청 스레드나 폴링 스레드가 아니라 여기서 실행됩니다.
+    // 공용 Executor 빈으로 등록하면 Boot 의 applicationTaskExecutor 가 빠지므로 이 컴포넌트가 직접 소유합니다.
+    private ThreadPoolTaskExecutor completionExecutor;
+
+    @PostConstruct
+    void initCompletionExecutor() {
+        completionExecutor = new ThreadPoolTaskExecutor();
+        completionExecutor.setCorePoolSize(executorThreads);
+        completionExecutor.setMaxPoolSize(executorThreads);
+        completionExecutor.setQueueCapacity(executorQueueCapacity);
+        completionExecutor.setThreadNamePrefix("jenkins-build-completion-");
+        // 종료 시 이미 확인된 결과는 저장하고 끝냅니다.
+        completionExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        completionExecutor.setAwaitTerminationSeconds(30);
+        completionExecutor.initialize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        poller.shutdownNow();
+        completionExecutor.shutdown();
+    }
+
+    private static final class Waiter {
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final JenkinsInfo info;
+        private final int buildNumber;
+        private final long deadlineMillis;
+        private long delaySeconds;
+        // 콜백으로 폴링을 다시 잡을 때 이전 폴링이 스스로 다시 예약하지 않도록 세대를 둡니다.
+        private long generation;
+        private ScheduledFuture<?> poll;
+
+        private Waiter(JenkinsInfo info, int buildNumber, long deadlineMillis, long delaySeconds) {
+            this.info = info;
+            this.buildNumber = buildNumber;
+            this.deadlineMillis = deadlineMillis;
+            this.delaySeconds = delaySeconds;
+        }
+    }
+
+    /**
+     * 빌드가 끝나면 Jenkins 결과 문자열로 완료되는 future 를 반환합니다. 같은 빌드를 기다리는 호출자는 폴링을 함께 씁니다.
+     */
+    public CompletableFuture<String> await(JenkinsInfo info, int buildNumber) {
+        String key = key(info.getProjectId(), buildNumber);
+
+        Waiter waiter = waiters.computeIfAbsent(key, k -> {
+            Waiter created = new Waiter(info, buildNumber,
+                    System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(maxWaitSeconds), Math.max(1, initialPollSeconds));
+            schedulePoll(k, created, created.delaySeconds, -1);
+            return created;
+        });
+
+        // 호출자가 취소하거나 완료해도 다른 대기자에게 영향이 없도록 복사본을 줍니다.
+        return waiter.future.copy();
+    }
+
+    /**
+     * 빌드 완료 콜백. 기다리는 호출자가 있으면 바로 Jenkins 에 다시 확인합니다.
+     * post 단계 안에서 호출되어 아직 building=true 일 수 있으므로, 이후 폴링은 1초부터 다시 늘려 갑니다.
+     */
+    public void recheck(Long projectId, int buildNumber) {
+        String key = key(projectId, buildNumber);
+        Waiter waiter = waiters.get(key);
+        if (waiter == null) {
+            return;
+        }
+
+        log.info("🔔 Jenkins 빌드 완료 콜백: 프로젝트={}, 빌드번호=#{}", projectId, buildNumber);
+        synchronized (waiter) {
+            waiter.delaySeconds = 1;
+        }
+        schedulePoll(key, waiter, 0, -1);
+    }
+
+    /**
+     * 트리거 응답의 큐 항목이 빌드를 시작하면 그 빌드 번호로 완료되는 future 를 반환합니다.
+     * 큐 항목이 취소되면 IllegalStateException, max-wait 안에 시작되지 않으면 TimeoutException 으로 완료됩니다.
+     */
+    public CompletableFuture<Integer> resolveBuildNumber(JenkinsInfo info, long queueId) {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        long deadlineMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(maxWaitSeconds);
+        scheduleQueuePoll(info, queueId, future, deadlineMillis, 1);
+        return future;
+    }
+
+    private void scheduleQueuePoll(JenkinsInfo info, long queueId, CompletableFuture<Integer> future, long deadlineMillis, long delaySeconds) {
+        try {
+            poller.schedule(() -> pollQueueItem(info, queueId, future, deadlineMillis, delaySeconds), delaySeconds, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void pollQueueItem(JenkinsInfo info, long queueId, CompletableFuture<Integer> future, long deadlineMillis, long delaySeconds) {
+        try {
+            JsonNode item = objectMapper.readTree(jenkinsClient.fetchQueueItem(info, queueId, "api/json?tree=cancelled,executable[number]"));
+            if (item.path("cancelled").asBoolean(false)) {
+                completeAsync(() -> future.completeExceptionally(new IllegalStateException("queue item " + queueId + " was cancelled")));
+                return;
+            }
+            int buildNumber = item.path("executable").path("number").asInt(0);
+            if (buildNumber > 0) {
+                log.info("🔎 Jenkins 큐 항목 빌드 시작: 프로젝트={}, 큐 항목={}, 빌드번호=#{}", info.getProjectId(), queueId, buildNumber);
+                completeAsync(() -> future.complete(buildNumber));
+                return;
+            }
+        } catch (Exception e) {
+            log.debug("Jenkins 큐 항목 폴링 실패: 프로젝트={}, 큐 항목={}, error={}", info.getProjectId(), queueId, e.getMessage());
+        }
+
+        if (System.currentTimeMillis() >= deadlineMillis) {
+            log.warn("⏰ Jenkins 큐 항목 시작 대기 시간 초과: 프로젝트={}, 큐 항목={}", info.getProjectId(), queueId);
+            completeAsync(() -> future.completeExceptionally(
+                    new TimeoutException("queue item " + queueId + " did not start in " + maxWaitSeconds + "s")));
+            return;
+        }
+
+        scheduleQueuePoll(info, queueId, future, deadlineMillis, Math.min(delaySeconds * 2, Math.max(1, maxPollSeconds)));
+    }
+
+    private void poll(String key, Waiter waiter, long generation) {
+        if (waiter.done.get()) {
+            return;
+        }
+
+        try {
+            JsonNode build = objectMapper.readTree(jenkinsClient.fetchBuildInfo(waiter.info, waiter.buildNumber + "/api/json?tree=result,building"));
+            String result = build.path("result").asText("");
+            if (!build.path("building").asBoolean(true) && !result.isBlank() && !"null".equalsIgnoreCase(result)) {
+                log.info("🔎 Jenkins 빌드 완료 확인: 프로젝트={}, 빌드번호=#{}, 결과={}", waiter.info.getProjectId(), waiter.buildNumber, result);
+                finish(key, waiter, () -> waiter.future.complete(result));
+                return;
+            }
+        } catch (Exception e) {
+            // 아직 큐에 있어 빌드가 없거나(404) 일시적인 오류면 다음 폴링에서 다시 확인
+            log.debug("Jenkins 빌드 상태 폴링 실패: 프로젝트={}, 빌드번호=#{}, error={}", waiter.info.getProjectId(), waiter.buildNumber, e.getMessage());
+        }
+
+        if (System.currentTimeMillis() >= waiter.deadlineMillis) {
+            log.warn("⏰ Jenkins 빌드 완료 대기 시간 초과: 프로젝트={}, 빌드번호=#{}", waiter.info.getProjectId(), waiter.buildNumber);
+            finish(key, waiter, () -> waiter.future.completeExceptionally(
+                    new TimeoutException("build #" + waiter.buildNumber + " did not finish in " + maxWaitSeconds + "s")));
+            return;
+        }
+
+        long delaySeconds;
+        synchronized (waiter) {
+            delaySeconds = waiter.delaySeconds;
+            waiter.delaySeconds = Math.min(delaySeconds * 2, Math.max(1, maxPollSeconds));
+        }
+        schedulePoll(key, waiter, delaySeconds, generation);
+    }
+
+    // expectedGeneration 이 -1 이 아니면, 그 사이 다른 곳에서 폴링을 다시 잡았을 때는 예약하지 않습니다.
+    private void schedulePoll(String key, Waiter waiter, long delaySeconds, long expectedGeneration) {
+        synchronized (waiter) {
+            if (waiter.done.get() || (expectedGeneration != -1 && waiter.generation != expectedGeneration)) {
+                return;
+            }
+            if (waiter.poll != null) {
+                waiter.poll.cancel(false);
+            }
+            long generation = ++waiter.generation;
+            waiter.poll = poller.schedule(() -> poll(key, waiter, generation), delaySeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    private void finish(String key, Waiter waiter, Runnable completion) {
+        if (!waiter.done.compareAndSet(false, true)) {
+            return;
+        }
+        waiters.remove(key, waiter);
+
+        synchronized (waiter) {
+            if (waiter.poll != null) {
+                waiter.poll.cancel(false);
+            }
+        }
+        completeAsync(completion);
+    }
+
+    private void completeAsync(Runnable completion) {
+        try {
+            completionExecutor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 찼거나 종료 중이면 결과를 잃지 않도록 현재 스레드에서 완료
+            completion.run();
+        }
+    }
+
+    private String key(Long projectId, int buildNumber) {
+        return projectId + "#" + buildNumber;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.backend.domain.jenkins.dto;
+
+/**
+ * progressiveText 응답 헤더.
+ *
+ * @param textSize 지금까지 받은 로그 끝 위치(byte). 다음 요청의 start 로 넘깁니다. (X-Text-Size)
+ * @param moreData 빌드가 아직 진행 중이라 로그가 더 쌓일 수 있는지 (X-More-Data)
+ * @param started  빌드가 시작되었는지. 아직 큐에 있으면 Jenkins 가 404 를 주므로 false 입니다.
+ */
+public record JenkinsLogProgress(long textSize, boolean moreData, boolean started) {
+
+    public static JenkinsLogProgress notStarted(long start) {
+        return new JenkinsLogProgress(start, true, false);
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.backend.domain.jenkins.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Jenkins 빌드 기록의 로컬 인덱스. 빌드 목록 조회는 Jenkins 대신 이 테이블에서 처리합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "jenkins_build_records",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"projectId", "buildNumber"}))
+public class JenkinsBuildRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long projectId;
+
+    private int buildNumber;
+
+    // Jenkins result (SUCCESS, FAILURE, ABORTED ...). 진행 중이면 null
+    @Column(length = 20)
+    private String result;
+
+    // 빌드 시작 시각 (epoch millis)
+    private long startedAt;
+
+    // 진행 중인 빌드는 다음 동기화 때 결과를 다시 받아옵니다.
+    private boolean building;
+
+    public void update(String result, boolean building) {
+        this.result = result;
+        this.building = building;
+    }
+}
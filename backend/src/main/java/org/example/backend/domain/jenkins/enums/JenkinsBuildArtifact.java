@@ -0,0 +1,19 @@
+package org.example.backend.domain.jenkins.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 끝난 빌드에서 더 이상 바뀌지 않는 Jenkins 산출물. path 는 빌드 번호 뒤에 붙는 API 경로이고, 콘솔 로그는 별도 API 로 받습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum JenkinsBuildArtifact {
+    BUILD_INFO("api/json"),
+    WFAPI_DESCRIBE("wfapi/describe"),
+    // getBuildChanges / getBuildChangesWithSummary 가 같은 응답을 쓰도록 paths 까지 포함
+    CHANGE_SETS("api/json?tree=changeSets[items[commitId,author[fullName],msg,timestamp,paths[file]]]"),
+    CONSOLE_LOG("consoleText");
+
+    private final String path;
+}
@@ -0,0 +1,38 @@
+package org.example.backend.domain.jenkins.log;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 콘솔 로그를 한 번 훑어 만든 빌드별 인덱스.
+ * 스테이지 경계를 byte offset 으로 기록해 두어, 스테이지 로그는 원문을 다시 파싱하지 않고 잘라서 만듭니다.
+ *
+ * @param totalBytes 인덱싱한 로그 크기(byte)
+ * @param stages     "[Pipeline] { (이름)" 줄 순서대로의 스테이지 목록 (number 는 1부터)
+ */
+public record ConsoleLogIndex(long totalBytes, List<Stage> stages) {
+
+    /**
+     * @param number     스테이지 순번 (1부터)
+     * @param name       스테이지 이름
+     * @param bodyStart  스테이지 헤더 다음 줄 시작 위치(byte)
+     * @param bodyEnd    다음 스테이지 헤더 줄 시작 위치 또는 로그 끝(byte)
+     * @param echoes     스테이지 안의 echo 출력
+     * @param errorCount 스테이지 안의 에러 표시 줄 수 (ERROR, Exception, FAILED 등)
+     */
+    public record Stage(int number, String name, long bodyStart, long bodyEnd, List<String> echoes, int errorCount) {
+    }
+
+    public Optional<Stage> stage(int number) {
+        return (number < 1 || number > stages.size()) ? Optional.empty() : Optional.of(stages.get(number - 1));
+    }
+
+    // 같은 이름의 스테이지가 여러 번 나오면 마지막 스테이지 기준
+    public Map<String, Stage> stagesByName() {
+        Map<String, Stage> byName = new LinkedHashMap<>();
+        stages.forEach(stage -> byName.put(stage.name(), stage));
+        return byName;
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.backend.domain.jenkins.log;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.jenkins.cache.JenkinsBuildArtifactCache;
+import org.example.backend.domain.jenkins.dto.JenkinsLogProgress;
+import org.example.backend.domain.jenkins.entity.JenkinsInfo;
+import org.example.backend.domain.jenkins.enums.JenkinsBuildArtifact;
+import org.example.backend.domain.jenkins.service.JenkinsClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 빌드별 콘솔 로그 인덱스(와 크기가 작으면 로그 원문)를 캐시합니다.
+ * 로그는 progressiveText 로 받으면서 바로 인덱싱하므로 한 번만 훑습니다.
+ * 끝난 빌드만 캐시하고, 진행 중인 빌드는 매번 새로 인덱싱합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConsoleLogIndexCache {
+
+    private final JenkinsClient jenkinsClient;
+    private final JenkinsBuildArtifactCache jenkinsBuildArtifactCache;
+
+    // 캐시 전체에 담을 로그 원문 크기 합 / 로그 하나당 원문을 담을 최대 크기
+    @Value("${jenkins.console-index.cache-max-bytes:67108864}")
+    private long cacheMaxBytes;
+
+    @Value("${jenkins.console-index.max-log-bytes:8388608}")
+    private int maxLogBytes;
+
+    // 인덱스만 담는 항목도 있으므로 항목 수도 제한
+    @Value("${jenkins.console-index.max-entries:500}")
+    private int maxEntries;
+
+    // access-order LRU. 접근이 모두 synchronized 라 별도 동기화 컬렉션은 쓰지 않습니다.
+    private final LinkedHashMap<String, IndexedConsoleLog> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    /**
+     * 인덱싱된 콘솔 로그.
+     *
+     * @param index 스테이지 인덱스
+     * @param log   로그 원문. max-log-bytes 를 넘으면 null 이고, 스테이지 로그는 Jenkins 에서 해당 구간만 다시 받습니다.
+     */
+    public record IndexedConsoleLog(ConsoleLogIndex index, byte[] log) {
+
+        long retainedBytes() {
+            return log == null ? 0 : log.length;
+        }
+    }
+
+    public IndexedConsoleLog load(JenkinsInfo info, int buildNumber) {
+        String key = key(info, buildNumber);
+
+        synchronized (this) {
+            IndexedConsoleLog cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // 끝난 빌드의 로그가 산출물 캐시(메모리/Redis)에 있으면 Jenkins 를 거치지 않고 인덱싱
+        Optional<String> artifact = jenkinsBuildArtifactCache.find(info, buildNumber, JenkinsBuildArtifact.CONSOLE_LOG);
+        if (artifact.isPresent()) {
+            byte[] bytes = artifact.get().getBytes(StandardCharsets.UTF_8);
+            ConsoleLogScanner scanner = new ConsoleLogScanner();
+            scanner.feed(bytes);
+            IndexedConsoleLog indexed = new IndexedConsoleLog(scanner.finish(), bytes.length > maxLogBytes ? null : bytes);
+            put(key, indexed);
+            return indexed;
+        }
+
+        ConsoleLogScanner scanner = new ConsoleLogScanner();
+        LogBuffer buffer = new LogBuffer(maxLogBytes);
+
+        JenkinsLogProgress progress = jenkinsClient.streamProgressiveLog(info, buildNumber, 0, bytes -> {
+            scanner.feed(bytes);
+            buffer.write(bytes);
+        });
+
+        IndexedConsoleLog indexed = new IndexedConsoleLog(scanner.finish(), buffer.toByteArray());
+        if (!progress.moreData()) {
+            put(key, indexed);
+            if (indexed.log() != null) {
+                jenkinsBuildArtifactCache.put(info, buildNumber, JenkinsBuildArtifact.CONSOLE_LOG,
+                        new String(indexed.log(), StandardCharsets.UTF_8));
+            }
+        }
+        return indexed;
+    }
+
+    /**
+     * 스테이지 본문을 잘라서 반환합니다. 원문이 캐시에 없으면 스테이지 시작 위치부터 다시 받아 끝 위치까지만 남깁니다.
+     */
+    public String stageLog(JenkinsInfo info, int buildNumber, IndexedConsoleLog indexed, ConsoleLogIndex.Stage stage) {
+        long length = stage.bodyEnd() - stage.bodyStart();
+
+        byte[] body;
+        if (indexed.log() != null) {
+            body = Arrays.copyOfRange(indexed.log(), (int) stage.bodyStart(), (int) stage.bodyEnd());
+        } else {
+            LogBuffer buffer = new LogBuffer(length);
+            jenkinsClient.streamProgressiveLog(info, buildNumber, stage.bodyStart(), buffer::writeUpToLimit);
+            body = buffer.toByteArray();
+        }
+
+        // 다음 스테이지 헤더 앞의 줄바꿈은 제외
+        int end = body.length;
+        while (end > 0 && (body[end - 1] == '\n' || body[end - 1] == '\r')) {
+            end--;
+        }
+        return new String(body, 0, end, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 잡을 새로 만들면 빌드 번호가 1부터 다시 시작하므로 프로젝트의 인덱스를 모두 버립니다.
+     */
+    public synchronized void evictProject(Long projectId) {
+        String prefix = projectId + ":";
+        Iterator<Map.Entry<String, IndexedConsoleLog>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, IndexedConsoleLog> entry = iterator.next();
+            if (entry.getKey().startsWith(prefix)) {
+                cachedBytes -= entry.getValue().retainedBytes();
+                iterator.remove();
+            }
+        }
+    }
+
+    private synchronized void put(String key, IndexedConsoleLog indexed) {
+        IndexedConsoleLog previous = entries.put(key, indexed);
+        cachedBytes += indexed.retainedBytes() - (previous == null ? 0 : previous.retainedBytes());
+
+        Iterator<Map.Entry<String, IndexedConsoleLog>> eldest = entries.entrySet().iterator();
+        while ((cachedBytes > cacheMaxBytes || entries.size() > maxEntries) && eldest.hasNext()) {
+            Map.Entry<String, IndexedConsoleLog> entry = eldest.next();
+            if (entry.getKey().equals(key)) {
+                continue;
+            }
+            cachedBytes -= entry.getValue().retainedBytes();
+            eldest.remove();
+        }
+    }
+
+    private String key(JenkinsInfo info, int buildNumber) {
+        return info.getProjectId() + ":" + info.getJobName() + "#" + buildNumber;
+    }
+
+    /**
+     * 최대 크기까지만 모으는 버퍼.
+     * write 는 한도를 넘으면 원문 보관을 포기하고(null), writeUpToLimit 는 한도까지만 남기고 나머지는 버립니다.
+     */
+    private static class LogBuffer {
+
+        private final long limit;
+        private ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        LogBuffer(long limit) {
+            this.limit = limit;
+        }
+
+        void write(byte[] bytes) {
+            if (out == null) {
+                return;
+            }
+            if (out.size() + (long) bytes.length > limit) {
+                out = null;
+                return;
+            }
+            out.writeBytes(bytes);
+        }
+
+        void writeUpToLimit(byte[] bytes) {
+            int remaining = (int) Math.max(0, limit - out.size());
+            out.write(bytes, 0, Math.min(remaining, bytes.length));
+        }
+
+        byte[] toByteArray() {
+            return out == null ? null : out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.backend.domain.jenkins.log;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 콘솔 로그를 조각 단위로 받아 한 번만 훑으며 ConsoleLogIndex 를 만듭니다.
+ * 줄 단위로 byte 를 비교하고, 스테이지 이름과 echo 내용이 필요한 줄만 문자열로 바꿉니다.
+ * 조각 경계에서 잘린 줄은 다음 조각과 이어서 처리하므로 메모리는 가장 긴 줄 하나만큼만 씁니다.
+ */
+public class ConsoleLogScanner {
+
+    private static final byte[] STAGE_MARKER = "[Pipeline] { (".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ECHO_MARKER = "[Pipeline] echo".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PIPELINE_PREFIX = "[Pipeline]".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] ERROR_MARKERS = {
+            "ERROR".getBytes(StandardCharsets.US_ASCII),
+            "Exception".getBytes(StandardCharsets.US_ASCII),
+            "FAILED".getBytes(StandardCharsets.US_ASCII),
+            "FAILURE".getBytes(StandardCharsets.US_ASCII),
+            "error:".getBytes(StandardCharsets.US_ASCII)
+    };
+
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    private final List<ConsoleLogIndex.Stage> stages = new ArrayList<>();
+
+    // 지금까지 받은 byte 수, 현재 줄 시작 위치
+    private long position;
+    private long lineStart;
+
+    // 현재 스테이지
+    private String stageName;
+    private long stageBodyStart;
+    private List<String> echoes = new ArrayList<>();
+    private int errorCount;
+    private boolean expectingEcho;
+
+    public void feed(byte[] bytes) {
+        int from = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                line.write(bytes, from, i - from);
+                position += i - from + 1;
+                onLine(line.toByteArray(), position);
+                line.reset();
+                lineStart = position;
+                from = i + 1;
+            }
+        }
+        line.write(bytes, from, bytes.length - from);
+        position += bytes.length - from;
+    }
+
+    public ConsoleLogIndex finish() {
+        if (line.size() > 0) {
+            onLine(line.toByteArray(), position);
+            line.reset();
+        }
+        closeStage(position);
+        return new ConsoleLogIndex(position, List.copyOf(stages));
+    }
+
+    private void onLine(byte[] bytes, long nextLineStart) {
+        int stageMarker = indexOf(bytes, STAGE_MARKER);
+        if (stageMarker >= 0) {
+            closeStage(lineStart);
+            stageName = stageName(bytes, stageMarker + STAGE_MARKER.length - 1);
+            stageBodyStart = nextLineStart;
+            echoes = new ArrayList<>();
+            errorCount = 0;
+            expectingEcho = false;
+            return;
+        }
+
+        if (indexOf(bytes, ECHO_MARKER) >= 0) {
+            expectingEcho = true;
+            return;
+        }
+
+        if (expectingEcho) {
+            String text = new String(bytes, StandardCharsets.UTF_8).trim();
+            if (!text.isEmpty() && !text.startsWith("[Pipeline]")) {
+                echoes.add(text);
+                expectingEcho = false;
+            }
+        }
+
+        if (stageName != null && !startsWith(bytes, PIPELINE_PREFIX) && hasErrorMarker(bytes)) {
+            errorCount++;
+        }
+    }
+
+    private void closeStage(long bodyEnd) {
+        if (stageName == null) {
+            return;
+        }
+        stages.add(new ConsoleLogIndex.Stage(stages.size() + 1, stageName, stageBodyStart, Math.max(stageBodyStart, bodyEnd), List.copyOf(echoes), errorCount));
+        stageName = null;
+    }
+
+    // "(" 다음부터 처음 나오는 ")" 전까지
+    private String stageName(byte[] bytes, int openParen) {
+        int close = openParen + 1;
+        while (close < bytes.length && bytes[close] != ')') {
+            close++;
+        }
+        return new String(bytes, openParen + 1, close - openParen - 1, StandardCharsets.UTF_8).trim();
+    }
+
+    private boolean hasErrorMarker(byte[] bytes) {
+        for (byte[] marker : ERROR_MARKERS) {
+            if (indexOf(bytes, marker) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        int offset = 0;
+        while (offset < bytes.length && (bytes[offset] == ' ' || bytes[offset] == '\t')) {
+            offset++;
+        }
+        return matchesAt(bytes, prefix, offset);
+    }
+
+    private static int indexOf(byte[] bytes, byte[] pattern) {
+        for (int i = 0; i + pattern.length <= bytes.length; i++) {
+            if (matchesAt(bytes, pattern, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matchesAt(byte[] bytes, byte[] pattern, int offset) {
+        if (offset + pattern.length > bytes.length) {
+            return false;
+        }
+        for (int j = 0; j < pattern.length; j++) {
+            if (bytes[offset + j] != pattern[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
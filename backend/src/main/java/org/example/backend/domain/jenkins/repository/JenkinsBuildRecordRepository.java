@@ -0,0 +1,19 @@
+package org.example.backend.domain.jenkins.repository;
+
+import org.example.backend.domain.jenkins.entity.JenkinsBuildRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface JenkinsBuildRecordRepository extends JpaRepository<JenkinsBuildRecord, Long> {
+    List<JenkinsBuildRecord> findByProjectIdOrderByBuildNumberDesc(Long projectId, Pageable pageable);
+    List<JenkinsBuildRecord> findByProjectIdAndBuildNumberLessThanOrderByBuildNumberDesc(Long projectId, int buildNumber, Pageable pageable);
+    List<JenkinsBuildRecord> findAllByProjectIdAndBuildNumberGreaterThanEqual(Long projectId, int buildNumber);
+    Optional<JenkinsBuildRecord> findTopByProjectIdOrderByBuildNumberDesc(Long projectId);
+    Optional<JenkinsBuildRecord> findByProjectIdAndBuildNumber(Long projectId, int buildNumber);
+    List<JenkinsBuildRecord> findAllByProjectIdAndBuildingTrue(Long projectId);
+    void deleteAllByProjectIdAndBuildNumberLessThan(Long projectId, int buildNumber);
+    void deleteAllByProjectId(Long projectId);
+}
@@ -0,0 +1,9 @@
+package org.example.backend.domain.jenkins.service;
+
+import org.example.backend.controller.response.jenkins.JenkinsBuildPageResponse;
+import org.example.backend.domain.jenkins.entity.JenkinsInfo;
+
+public interface JenkinsBuildIndexService {
+    JenkinsBuildPageResponse getBuildPage(JenkinsInfo info, int cursor, int limit);
+    void invalidate(Long projectId);
+}
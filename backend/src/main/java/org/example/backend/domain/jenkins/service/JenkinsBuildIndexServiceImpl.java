@@ -0,0 +1,249 @@
+package org.example.backend.domain.jenkins.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.controller.response.jenkins.JenkinsBuildListResponse;
+import org.example.backend.controller.response.jenkins.JenkinsBuildPageResponse;
+import org.example.backend.domain.jenkins.entity.JenkinsBuildRecord;
+import org.example.backend.domain.jenkins.entity.JenkinsInfo;
+import org.example.backend.domain.jenkins.repository.JenkinsBuildRecordRepository;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트별 Jenkins 빌드 기록을 DB 에 인덱싱하고, 빌드 목록은 인덱스에서 빌드 번호 기준 keyset 으로 조회합니다.
+ * 동기화는 마지막으로 받은 빌드 번호(또는 아직 진행 중인 가장 오래된 빌드) 이후만 Jenkins 범위 조회({from,to})로 받아옵니다.
+ * 빌드 완료 콜백(log-last-build)이 오면 다음 조회에서 바로 다시 동기화합니다.
+ * building-timeout 보다 오래 진행 중으로 남은 기록은 기준점을 붙잡지 않도록 빼고, 그 빌드만 따로 다시 확인합니다.
+ * Jenkins 에 요청할 수 없으면 기존 인덱스를 그대로 돌려주고 stale 로 표시합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JenkinsBuildIndexServiceImpl implements JenkinsBuildIndexService {
+
+    private static final String BUILD_FIELDS = "number,result,timestamp,building";
+    // 한 번에 받아오는 빌드 수. 첫 동기화처럼 받을 기록이 많을 때만 여러 번 나눠 받습니다.
+    private static final int SYNC_BATCH_SIZE = 200;
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneId.systemDefault());
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    private final JenkinsClient jenkinsClient;
+    private final JenkinsBuildRecordRepository jenkinsBuildRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // 프로젝트별 마지막 동기화 시작 시각 / 무효화 시각 (epoch millis)
+    private final Map<Long, Long> lastSyncedAt = new ConcurrentHashMap<>();
+    private final Map<Long, Long> invalidatedAt = new ConcurrentHashMap<>();
+    private final Map<Long, Object> syncLocks = new ConcurrentHashMap<>();
+
+    @Value("${jenkins.build-index.sync-interval-seconds:30}")
+    private long syncIntervalSeconds;
+
+    @Value("${jenkins.build-index.building-timeout-minutes:120}")
+    private long buildingTimeoutMinutes;
+
+    @Override
+    public JenkinsBuildPageResponse getBuildPage(JenkinsInfo info, int cursor, int limit) {
+        boolean synced = syncIfStale(info);
+
+        // 한 건 더 읽어서 다음 페이지 유무를 판단
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<JenkinsBuildRecord> records = cursor > 0
+                ? jenkinsBuildRecordRepository.findByProjectIdAndBuildNumberLessThanOrderByBuildNumberDesc(info.getProjectId(), cursor, page)
+                : jenkinsBuildRecordRepository.findByProjectIdOrderByBuildNumberDesc(info.getProjectId(), page);
+
+        boolean hasNext = records.size() > limit;
+        List<JenkinsBuildRecord> sliced = hasNext ? records.subList(0, limit) : records;
+
+        return JenkinsBuildPageResponse.builder()
+                .builds(sliced.stream().map(this::toResponse).toList())
+                .hasNext(hasNext)
+                .nextStart(hasNext ? sliced.get(sliced.size() - 1).getBuildNumber() : null)
+                .stale(!synced)
+                .build();
+    }
+
+    @Override
+    public void invalidate(Long projectId) {
+        invalidatedAt.put(projectId, System.currentTimeMillis());
+    }
+
+    // 인덱스가 최신이거나 동기화에 성공하면 true, Jenkins 요청이 실패해 이전 인덱스를 그대로 쓰면 false
+    private boolean syncIfStale(JenkinsInfo info) {
+        Long projectId = info.getProjectId();
+
+        synchronized (syncLocks.computeIfAbsent(projectId, id -> new Object())) {
+            if (isFresh(projectId)) {
+                return true;
+            }
+
+            // 동기화 도중 들어온 무효화를 놓치지 않도록 시작 시각을 기록
+            long startedAt = System.currentTimeMillis();
+            try {
+                sync(info);
+            } catch (BusinessException e) {
+                log.warn("⚠️ Jenkins 빌드 인덱스 동기화 실패, 기존 인덱스로 응답: projectId={}, code={}", projectId, e.getErrorCode().getCode());
+                return false;
+            }
+            lastSyncedAt.put(projectId, startedAt);
+            return true;
+        }
+    }
+
+    private boolean isFresh(Long projectId) {
+        Long syncedAt = lastSyncedAt.get(projectId);
+        if (syncedAt == null || syncedAt <= invalidatedAt.getOrDefault(projectId, 0L)) {
+            return false;
+        }
+        return System.currentTimeMillis() - syncedAt < TimeUnit.SECONDS.toMillis(syncIntervalSeconds);
+    }
+
+    private void sync(JenkinsInfo info) {
+        Long projectId = info.getProjectId();
+
+        JsonNode job = parse(jenkinsClient.fetchBuildInfo(info, "api/json?tree=firstBuild[number],lastBuild[number]"));
+        if (!job.hasNonNull("lastBuild")) {
+            transactionTemplate.executeWithoutResult(status -> jenkinsBuildRecordRepository.deleteAllByProjectId(projectId));
+            return;
+        }
+
+        int firstBuild = job.path("firstBuild").path("number").asInt(1);
+        int lastBuild = job.path("lastBuild").path("number").asInt();
+        int knownBuild = jenkinsBuildRecordRepository.findTopByProjectIdOrderByBuildNumberDesc(projectId)
+                .map(JenkinsBuildRecord::getBuildNumber)
+                .orElse(0);
+
+        // Job 을 다시 만들어 빌드 번호가 처음부터 시작하면 인덱스를 새로 만듭니다.
+        boolean reset = lastBuild < knownBuild;
+
+        // 중단되어 결과를 못 받은 기록이 floor 를 계속 붙잡지 않도록, 오래된 진행 중 기록은 따로 확인합니다.
+        long staleBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(buildingTimeoutMinutes);
+        List<JenkinsBuildRecord> buildingRecords = reset ? List.of() : jenkinsBuildRecordRepository.findAllByProjectIdAndBuildingTrue(projectId);
+        int floor = reset ? firstBuild : Math.max(firstBuild, buildingRecords.stream()
+                .filter(record -> record.getStartedAt() >= staleBefore)
+                .mapToInt(JenkinsBuildRecord::getBuildNumber)
+                .min()
+                .orElse(knownBuild + 1));
+
+        List<JsonNode> rechecked = new ArrayList<>();
+        for (JenkinsBuildRecord record : buildingRecords) {
+            int buildNumber = record.getBuildNumber();
+            if (buildNumber < firstBuild || buildNumber >= floor) {
+                continue;
+            }
+            try {
+                rechecked.add(parse(jenkinsClient.fetchBuildInfo(info, buildNumber + "/api/json?tree=" + BUILD_FIELDS)));
+            } catch (BusinessException e) {
+                // 다음 동기화에서 다시 확인합니다. floor 는 붙잡지 않으므로 새 빌드 동기화는 계속됩니다.
+                log.debug("오래된 진행 중 빌드 재확인 실패: projectId={}, build=#{}", projectId, buildNumber);
+            }
+        }
+
+        // 빌드 목록은 최신 빌드부터 번호가 줄어드므로 floor 이상인 빌드는 앞쪽 (lastBuild - floor + 1)개 안에 모두 있습니다.
+        List<JsonNode> fetched = new ArrayList<>();
+        int span = lastBuild - floor + 1;
+        for (int from = 0; from < span; from += SYNC_BATCH_SIZE) {
+            int to = Math.min(from + SYNC_BATCH_SIZE, span);
+            JsonNode builds = parse(jenkinsClient.fetchBuildRange(info, BUILD_FIELDS, from, to)).path("builds");
+
+            boolean reachedFloor = false;
+            for (JsonNode build : builds) {
+                if (build.path("number").asInt() < floor) {
+                    reachedFloor = true;
+                    break;
+                }
+                fetched.add(build);
+            }
+            if (reachedFloor || builds.size() < to - from) {
+                break;
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> apply(projectId, reset, firstBuild, floor, fetched, rechecked));
+        log.debug("Jenkins 빌드 인덱스 동기화: projectId={}, floor=#{}, fetched={}", projectId, floor, fetched.size());
+    }
+
+    private void apply(Long projectId, boolean reset, int firstBuild, int floor, List<JsonNode> fetched, List<JsonNode> rechecked) {
+        if (reset) {
+            jenkinsBuildRecordRepository.deleteAllByProjectId(projectId);
+        }
+        // buildDiscarder 로 Jenkins 에서 지워진 빌드는 인덱스에서도 제거
+        jenkinsBuildRecordRepository.deleteAllByProjectIdAndBuildNumberLessThan(projectId, firstBuild);
+        jenkinsBuildRecordRepository.flush();
+
+        Map<Integer, JenkinsBuildRecord> existing = jenkinsBuildRecordRepository.findAllByProjectIdAndBuildNumberGreaterThanEqual(projectId, floor).stream()
+                .collect(Collectors.toMap(JenkinsBuildRecord::getBuildNumber, Function.identity()));
+
+        List<JenkinsBuildRecord> created = new ArrayList<>();
+        for (JsonNode build : fetched) {
+            int buildNumber = build.path("number").asInt();
+
+            JenkinsBuildRecord record = existing.remove(buildNumber);
+            if (record != null) {
+                record.update(resultOf(build), build.path("building").asBoolean());
+            } else {
+                created.add(JenkinsBuildRecord.builder()
+                        .projectId(projectId)
+                        .buildNumber(buildNumber)
+                        .result(resultOf(build))
+                        .startedAt(build.path("timestamp").asLong())
+                        .building(build.path("building").asBoolean())
+                        .build());
+            }
+        }
+        jenkinsBuildRecordRepository.saveAll(created);
+
+        // floor 이상은 Jenkins 에 남은 빌드를 모두 받았으므로, 받지 못한 기록은 중간에 지워진 빌드입니다.
+        jenkinsBuildRecordRepository.deleteAll(existing.values());
+
+        for (JsonNode build : rechecked) {
+            jenkinsBuildRecordRepository.findByProjectIdAndBuildNumber(projectId, build.path("number").asInt())
+                    .ifPresent(record -> record.update(resultOf(build), build.path("building").asBoolean()));
+        }
+    }
+
+    private String resultOf(JsonNode build) {
+        return build.hasNonNull("result") ? build.get("result").asText() : null;
+    }
+
+    private JenkinsBuildListResponse toResponse(JenkinsBuildRecord record) {
+        Instant startedAt = Instant.ofEpochMilli(record.getStartedAt());
+
+        return JenkinsBuildListResponse.builder()
+                .buildNumber(record.getBuildNumber())
+                .buildName("MR 빌드")
+                .date(DATE_FORMATTER.format(startedAt))
+                .time(TIME_FORMATTER.format(startedAt))
+                // 진행 중인 빌드는 Jenkins 응답 그대로 "null"
+                .status(String.valueOf(record.getResult()))
+                .build();
+    }
+
+    private JsonNode parse(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.JENKINS_RESPONSE_PARSING_FAILED);
+        }
+    }
+}
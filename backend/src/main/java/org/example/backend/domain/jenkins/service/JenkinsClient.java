@@ -1,10 +1,16 @@
 package org.example.backend.domain.jenkins.service;
 
+import org.example.backend.domain.jenkins.dto.JenkinsLogProgress;
 import org.example.backend.domain.jenkins.entity.JenkinsInfo;
 
+import java.util.function.Consumer;
+
 public interface JenkinsClient {
     String fetchBuildInfo(JenkinsInfo info, String path);
+    String fetchBuildRange(JenkinsInfo info, String fields, int from, int to);
     String fetchBuildLog(JenkinsInfo info, int buildNumber);
+    JenkinsLogProgress streamProgressiveLog(JenkinsInfo info, int buildNumber, long start, Consumer<byte[]> sink);
     void triggerBuildWithoutLogin(JenkinsInfo info, String branchName, String originalBranchName);
-    void triggerBuild(JenkinsInfo info, String branchName);
+    long triggerBuild(JenkinsInfo info, String branchName);
+    String fetchQueueItem(JenkinsInfo info, long queueId, String path);
 }
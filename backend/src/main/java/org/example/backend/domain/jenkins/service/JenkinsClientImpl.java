@@ -4,11 +4,14 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.example.backend.common.util.JenkinsUriBuilder;
+import org.example.backend.domain.jenkins.dto.JenkinsLogProgress;
 import org.example.backend.domain.jenkins.entity.JenkinsInfo;
 import org.example.backend.domain.project.enums.ServerStatus;
 import org.example.backend.global.exception.BusinessException;
 import org.example.backend.global.exception.ErrorCode;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -19,14 +22,22 @@ import reactor.core.publisher.Mono;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.InputStreamReader;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JenkinsClientImpl implements JenkinsClient {
 
+    // buildWithParameters 는 201 과 함께 Location: {jenkins}/queue/item/{id}/ 를 돌려줍니다.
+    private static final Pattern TRIGGER_ACCEPTED = Pattern.compile("^HTTP/\\S+\\s+2\\d\\d", Pattern.MULTILINE);
+    private static final Pattern QUEUE_ITEM_LOCATION = Pattern.compile("(?im)^location:\\s*\\S*/queue/item/(\\d+)");
+
     private final WebClient jenkinsWebClient;
 
     public JenkinsClientImpl(@Qualifier("webClient") WebClient jenkinsWebClient) {
@@ -39,12 +50,71 @@ public class JenkinsClientImpl implements JenkinsClient {
         return safelyRequest(url, info);
     }
 
+    @Override
+    public String fetchBuildRange(JenkinsInfo info, String fields, int from, int to) {
+        URI uri = JenkinsUriBuilder.buildBuildRangeUri(info.getBaseUrl(), info.getJobName(), fields, from, to);
+        try {
+            return jenkinsWebClient.get()
+                    .uri(uri)
+                    .header(HttpHeaders.AUTHORIZATION, basicAuthHeader(info))
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+        } catch (Exception e) {
+            log.error("Jenkins 빌드 목록 범위 조회 실패: uri={}, reason={}", uri, e.getMessage());
+            throw new BusinessException(ErrorCode.JENKINS_REQUEST_FAILED);
+        }
+    }
+
     @Override
     public String fetchBuildLog(JenkinsInfo info, int buildNumber) {
         String url = JenkinsUriBuilder.buildConsoleLogUri(info.getBaseUrl(), info.getJobName(), buildNumber);
         return safelyRequest(url, info);
     }
 
+    /**
+     * start(byte) 이후의 콘솔 로그만 progressiveText 로 받아, 도착하는 대로 sink 에 넘깁니다.
+     * 본문을 한 번에 모으지 않으므로 로그 크기와 무관하게 메모리를 쓰지 않습니다.
+     */
+    @Override
+    public JenkinsLogProgress streamProgressiveLog(JenkinsInfo info, int buildNumber, long start, Consumer<byte[]> sink) {
+        String url = JenkinsUriBuilder.buildProgressiveLogUri(info.getBaseUrl(), info.getJobName(), buildNumber, start);
+        try {
+            return jenkinsWebClient.get()
+                    .uri(url)
+                    .header(HttpHeaders.AUTHORIZATION, basicAuthHeader(info))
+                    .exchangeToMono(response -> {
+                        // 큐에서 기다리는 빌드는 아직 번호만 예약되어 있어 404 를 줍니다.
+                        if (response.statusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                            return response.releaseBody().thenReturn(JenkinsLogProgress.notStarted(start));
+                        }
+                        if (response.statusCode().isError()) {
+                            return response.createException().flatMap(Mono::error);
+                        }
+
+                        HttpHeaders headers = response.headers().asHttpHeaders();
+                        String textSize = headers.getFirst("X-Text-Size");
+                        JenkinsLogProgress progress = new JenkinsLogProgress(
+                                textSize == null ? start : Long.parseLong(textSize),
+                                Boolean.parseBoolean(headers.getFirst("X-More-Data")),
+                                true);
+
+                        return response.bodyToFlux(DataBuffer.class)
+                                .doOnNext(buffer -> {
+                                    byte[] bytes = new byte[buffer.readableByteCount()];
+                                    buffer.read(bytes);
+                                    DataBufferUtils.release(buffer);
+                                    sink.accept(bytes);
+                                })
+                                .then(Mono.just(progress));
+                    })
+                    .block();
+        } catch (Exception e) {
+            log.error("Jenkins 콘솔 로그 스트리밍 실패: url={}, reason={}", url, e.getMessage());
+            throw new BusinessException(ErrorCode.JENKINS_REQUEST_FAILED);
+        }
+    }
+
     @Override
     public void triggerBuildWithoutLogin(JenkinsInfo info, String branchName, String originalBranchName) {
         String baseUrl = info.getBaseUrl();
@@ -110,7 +180,7 @@ public class JenkinsClientImpl implements JenkinsClient {
     }
 
     @Override
-    public void triggerBuild(JenkinsInfo info, String branchName) {
+    public long triggerBuild(JenkinsInfo info, String branchName) {
         String baseUrl = info.getBaseUrl();
         String jobUrl = JenkinsUriBuilder.buildTriggerUri(baseUrl, info.getJobName()) + "?BRANCH_NAME=" + branchName;
         String username = info.getUsername();
@@ -146,9 +216,9 @@ public class JenkinsClientImpl implements JenkinsClient {
             String crumb = crumbJson.get("crumb").asText();
             String crumbField = crumbJson.get("crumbRequestField").asText();
 
-            // Trigger build
+            // Trigger build. 응답 헤더만 받아 Location 의 큐 항목 번호를 읽습니다.
             List<String> buildCommand = Arrays.asList(
-                    "curl", "-X", "POST", jobUrl,
+                    "curl", "-s", "-D", "-", "-o", "/dev/null", "-X", "POST", jobUrl,
                     "-u", username + ":" + apiToken,
                     "-b", cookiePath,
                     "-H", crumbField + ":" + crumb
@@ -158,21 +228,31 @@ public class JenkinsClientImpl implements JenkinsClient {
                     .redirectErrorStream(true).start();
 
             String buildResponse = new BufferedReader(new InputStreamReader(buildProcess.getInputStream()))
-                    .lines().collect(Collectors.joining());
+                    .lines().collect(Collectors.joining("\n"));
 
-            if (buildResponse.contains("403")) {
+            Matcher queueItem = QUEUE_ITEM_LOCATION.matcher(buildResponse);
+            if (!TRIGGER_ACCEPTED.matcher(buildResponse).find() || !queueItem.find()) {
                 log.error("❌ Jenkins trigger 실패 응답: {}", buildResponse);
                 throw new BusinessException(ErrorCode.JENKINS_REQUEST_FAILED);
             }
 
-            log.info("✅ Jenkins 빌드 트리거 성공: 브랜치={}", branchName);
+            long queueId = Long.parseLong(queueItem.group(1));
+            log.info("✅ Jenkins 빌드 트리거 성공: 브랜치={}, 큐 항목={}", branchName, queueId);
+            return queueId;
 
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             log.error("❌ Jenkins trigger exception: {}", e.getMessage(), e);
             throw new BusinessException(ErrorCode.JENKINS_REQUEST_FAILED);
         }
     }
 
+    @Override
+    public String fetchQueueItem(JenkinsInfo info, long queueId, String path) {
+        return safelyRequest(JenkinsUriBuilder.buildQueueItemUri(info.getBaseUrl(), queueId, path), info);
+    }
+
     // 내부 공통 요청 처리 메서드
     private String safelyRequest(String url, JenkinsInfo info) {
         try {
@@ -0,0 +1,7 @@
+package org.example.backend.domain.jenkins.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface JenkinsLogStreamService {
+    SseEmitter streamBuildLog(Long projectId, int buildNumber, long start, String accessToken);
+}
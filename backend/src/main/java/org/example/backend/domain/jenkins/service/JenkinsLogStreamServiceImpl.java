@@ -0,0 +1,241 @@
+package org.example.backend.domain.jenkins.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.common.auth.ProjectAccessValidator;
+import org.example.backend.controller.response.jenkins.JenkinsLogChunkResponse;
+import org.example.backend.domain.jenkins.dto.JenkinsLogProgress;
+import org.example.backend.domain.jenkins.entity.JenkinsInfo;
+import org.example.backend.domain.jenkins.repository.JenkinsInfoRepository;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jenkins 콘솔 로그를 progressiveText 로 이어 받아 SSE 로 전달합니다.
+ * 매 주기마다 마지막으로 받은 위치 이후의 바이트만 요청하고, 받은 조각은 모으지 않고 바로 내보냅니다.
+ * 아직 큐에서 기다리는 빌드(404)는 queued-timeout 까지 시작되기를 기다립니다.
+ * 타이머 스레드는 예약만 하고, 블로킹 Jenkins 요청은 크기가 정해진 별도 워커 풀에서 실행합니다.
+ * 스트림마다 요청이 끝난 뒤에 다음 요청을 예약하므로 한 스트림의 요청이 겹치지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JenkinsLogStreamServiceImpl implements JenkinsLogStreamService {
+
+    private static final long LOG_STREAM_TIMEOUT_MILLIS = 60 * 60 * 1000L;
+
+    private final JenkinsClient jenkinsClient;
+    private final JenkinsInfoRepository jenkinsInfoRepository;
+    private final ProjectAccessValidator projectAccessValidator;
+
+    @Value("${jenkins.log-stream.poll-interval-millis:1000}")
+    private long pollIntervalMillis;
+
+    // 빌드가 큐에서 이 시간 안에 시작되지 않으면 스트림을 오류로 끝냅니다.
+    @Value("${jenkins.log-stream.queued-timeout-seconds:600}")
+    private long queuedTimeoutSeconds;
+
+    @Value("${jenkins.log-stream.worker-threads:8}")
+    private int workerThreads;
+
+    @Value("${jenkins.log-stream.worker-queue-capacity:200}")
+    private int workerQueueCapacity;
+
+    private final ScheduledExecutorService logTicker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("jenkins-log-stream-tick-"));
+
+    // Jenkins 요청이 블로킹이므로 타이머와 분리된 워커에서 실행합니다.
+    private ThreadPoolExecutor logWorkers;
+
+    @PostConstruct
+    void initWorkers() {
+        logWorkers = new ThreadPoolExecutor(
+                workerThreads, workerThreads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workerQueueCapacity),
+                new CustomizableThreadFactory("jenkins-log-stream-")
+        );
+        logWorkers.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdownPoller() {
+        logTicker.shutdownNow();
+        logWorkers.shutdownNow();
+    }
+
+    @Override
+    public SseEmitter streamBuildLog(Long projectId, int buildNumber, long start, String accessToken) {
+        projectAccessValidator.validateUserInProject(projectId, accessToken);
+
+        if (start < 0) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER);
+        }
+
+        JenkinsInfo info = jenkinsInfoRepository.findByProjectId(projectId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.JENKINS_INFO_NOT_FOUND));
+
+        SseEmitter emitter = new SseEmitter(LOG_STREAM_TIMEOUT_MILLIS);
+        LogCursor cursor = new LogCursor(start, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(queuedTimeoutSeconds));
+
+        emitter.onCompletion(() -> stop(cursor));
+        emitter.onTimeout(() -> stop(cursor));
+        emitter.onError(error -> stop(cursor));
+
+        schedule(info, buildNumber, emitter, cursor, 0);
+        return emitter;
+    }
+
+    private void schedule(JenkinsInfo info, int buildNumber, SseEmitter emitter, LogCursor cursor, long delayMillis) {
+        if (cursor.finished) {
+            return;
+        }
+
+        try {
+            cursor.next = logTicker.schedule(() -> {
+                try {
+                    logWorkers.execute(() -> poll(info, buildNumber, emitter, cursor));
+                } catch (RejectedExecutionException e) {
+                    // 워커가 모두 바쁘면 이번 주기는 건너뛰고 다음 주기에 다시 시도
+                    schedule(info, buildNumber, emitter, cursor, pollIntervalMillis);
+                }
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            stop(cursor);
+        }
+    }
+
+    private void poll(JenkinsInfo info, int buildNumber, SseEmitter emitter, LogCursor cursor) {
+        // complete() 뒤 onCompletion 으로 멈추기 전에 한 번 더 실행될 수 있음
+        if (cursor.finished) {
+            return;
+        }
+
+        try {
+            JenkinsLogProgress progress = jenkinsClient.streamProgressiveLog(info, buildNumber, cursor.requestOffset,
+                    bytes -> send(emitter, cursor, bytes));
+
+            if (!progress.started()) {
+                if (System.currentTimeMillis() >= cursor.queuedDeadlineMillis) {
+                    throw new BusinessException(ErrorCode.JENKINS_BUILD_NOT_STARTED);
+                }
+                schedule(info, buildNumber, emitter, cursor, pollIntervalMillis);
+                return;
+            }
+
+            cursor.requestOffset = progress.textSize();
+
+            if (!progress.moreData()) {
+                cursor.finished = true;
+                emitter.send(SseEmitter.event().name("end").data(cursor.emittedOffset));
+                emitter.complete();
+                return;
+            }
+        } catch (Exception e) {
+            cursor.finished = true;
+            emitter.completeWithError(e);
+            return;
+        }
+
+        schedule(info, buildNumber, emitter, cursor, pollIntervalMillis);
+    }
+
+    private void stop(LogCursor cursor) {
+        cursor.finished = true;
+        ScheduledFuture<?> next = cursor.next;
+        if (next != null) {
+            next.cancel(false);
+        }
+    }
+
+    // 조각 경계에서 잘린 UTF-8 문자는 다음 조각과 합쳐서 보냅니다.
+    private void send(SseEmitter emitter, LogCursor cursor, byte[] bytes) {
+        byte[] chunk = cursor.carry.length == 0 ? bytes : concat(cursor.carry, bytes);
+        int end = completeCharacterEnd(chunk);
+        cursor.carry = Arrays.copyOfRange(chunk, end, chunk.length);
+
+        if (end == 0) {
+            return;
+        }
+
+        long offset = cursor.emittedOffset;
+        cursor.emittedOffset += end;
+
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("log")
+                    .id(String.valueOf(cursor.emittedOffset))
+                    .data(JenkinsLogChunkResponse.builder()
+                            .offset(offset)
+                            .nextOffset(cursor.emittedOffset)
+                            .text(new String(chunk, 0, end, StandardCharsets.UTF_8))
+                            .build()));
+        } catch (IOException e) {
+            // 클라이언트가 끊기면 Jenkins 응답 수신도 중단
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] concat(byte[] head, byte[] tail) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(head.length + tail.length);
+        out.writeBytes(head);
+        out.writeBytes(tail);
+        return out.toByteArray();
+    }
+
+    // 마지막 문자가 잘렸으면 그 문자 시작 위치, 아니면 배열 끝
+    private int completeCharacterEnd(byte[] bytes) {
+        int lead = bytes.length - 1;
+        while (lead >= 0 && (bytes[lead] & 0xC0) == 0x80) {
+            lead--;
+        }
+        if (lead < 0) {
+            return bytes.length;
+        }
+
+        int b = bytes[lead] & 0xFF;
+        int expected = (b >= 0xF0) ? 4 : (b >= 0xE0) ? 3 : (b >= 0xC0) ? 2 : 1;
+
+        return (bytes.length - lead >= expected) ? bytes.length : lead;
+    }
+
+    /**
+     * 스트림 하나의 진행 위치. 요청이 끝난 뒤에 다음 요청을 예약하므로 동시에 두 스레드가 갱신하지 않습니다.
+     */
+    private static class LogCursor {
+        // 다음 progressiveText 요청의 start
+        private long requestOffset;
+        // 클라이언트에 보낸 로그 끝 위치 (잘려서 보류 중인 바이트 제외)
+        private long emittedOffset;
+        private byte[] carry = new byte[0];
+        // 빌드가 큐에서 시작되기를 기다리는 마감 시각 (epoch millis)
+        private final long queuedDeadlineMillis;
+        private volatile boolean finished;
+        private volatile ScheduledFuture<?> next;
+
+        LogCursor(long start, long queuedDeadlineMillis) {
+            this.requestOffset = start;
+            this.emittedOffset = start;
+            this.queuedDeadlineMillis = queuedDeadlineMillis;
+        }
+    }
+}
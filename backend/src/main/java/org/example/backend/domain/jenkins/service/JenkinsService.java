@@ -4,6 +4,7 @@ import org.example.backend.controller.response.jenkins.*;
 import org.example.backend.domain.aireport.enums.ReportStatus;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface JenkinsService {
     JenkinsBuildPageResponse getBuildList(Long projectId, int start, int limit, String accessToken);
@@ -18,8 +19,9 @@ public interface JenkinsService {
     void triggerBuild(Long projectId, String accessToken, String branchName);
     List<JenkinsBuildChangeResponse> getBuildChanges(int buildNumber, Long projectId, String accessToken);
     List<JenkinsBuildChangeSummaryResponse> getBuildChangesWithSummary(int buildNumber, Long projectId, String accessToken);
-    void logLastBuildResultToProject(Long projectId);
+    void logLastBuildResultToProject(Long projectId, Integer buildNumber);
+    void evictBuildCaches(Long projectId);
     void issueAndSaveToken(Long projectId, String serverIp, String accessToken);
     String getStepLogById(Long projectId, int buildNumber, String stepNumber, String accessToken);
-    ReportStatus waitUntilBuildFinishes(int newBuildNumber, Long projectId);
+    CompletableFuture<ReportStatus> awaitBuildFinish(int newBuildNumber, Long projectId);
 }
\ No newline at end of file
@@ -2,25 +2,29 @@ package org.example.backend.domain.jenkins.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.backend.common.auth.ProjectAccessValidator;
 import org.example.backend.controller.response.jenkins.*;
 import org.example.backend.domain.aireport.enums.ReportStatus;
+import org.example.backend.domain.jenkins.cache.JenkinsBuildArtifactCache;
+import org.example.backend.domain.jenkins.completion.JenkinsBuildCompletionRegistry;
 import org.example.backend.domain.jenkins.entity.JenkinsInfo;
 import org.example.backend.domain.jenkins.enums.BuildStatusType;
+import org.example.backend.domain.jenkins.enums.JenkinsBuildArtifact;
+import org.example.backend.domain.jenkins.log.ConsoleLogIndex;
+import org.example.backend.domain.jenkins.log.ConsoleLogIndexCache;
 import org.example.backend.domain.jenkins.repository.JenkinsInfoRepository;
 import org.example.backend.domain.project.entity.Project;
 import org.example.backend.domain.project.entity.ProjectExecution;
 import org.example.backend.domain.project.enums.BuildStatus;
 import org.example.backend.domain.project.enums.ExecutionType;
-import org.example.backend.domain.project.enums.ServerStatus;
 import org.example.backend.domain.project.repository.ProjectExecutionRepository;
 import org.example.backend.domain.project.repository.ProjectRepository;
 import org.example.backend.global.exception.BusinessException;
 import org.example.backend.global.exception.ErrorCode;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -28,6 +32,8 @@ import java.io.InputStreamReader;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -41,6 +47,13 @@ public class JenkinsServiceImpl implements JenkinsService {
     private final JenkinsInfoRepository jenkinsInfoRepository;
     private final ProjectExecutionRepository projectExecutionRepository;
     private final ProjectAccessValidator projectAccessValidator;
+    private final JenkinsBuildIndexService jenkinsBuildIndexService;
+    private final ConsoleLogIndexCache consoleLogIndexCache;
+    private final JenkinsBuildArtifactCache jenkinsBuildArtifactCache;
+    private final JenkinsBuildCompletionRegistry jenkinsBuildCompletionRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int MAX_BUILD_PAGE_SIZE = 100;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneId.systemDefault());
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneId.systemDefault());
@@ -53,33 +66,8 @@ public class JenkinsServiceImpl implements JenkinsService {
         projectAccessValidator.validateUserInProject(projectId, accessToken);
         JenkinsInfo info = getJenkinsInfo(projectId);
 
-        // Jenkins는 start, limit 안 먹힘. 전부 받아와서 자바에서 슬라이싱
-        JsonNode buildsNode = safelyParseJson(
-                jenkinsClient.fetchBuildInfo(info, "api/json?tree=builds[number,result,timestamp]")
-        ).path("builds");
-
-        List<JenkinsBuildListResponse> allBuilds = new ArrayList<>();
-        for (JsonNode build : buildsNode) {
-            allBuilds.add(JenkinsBuildListResponse.builder()
-                    .buildNumber(build.path("number").asInt())
-                    .buildName("MR 빌드")
-                    .date(DATE_FORMATTER.format(Instant.ofEpochMilli(build.path("timestamp").asLong())))
-                    .time(TIME_FORMATTER.format(Instant.ofEpochMilli(build.path("timestamp").asLong())))
-                    .status(build.path("result").asText())
-                    .build());
-        }
-
-        // 커서 방식 슬라이싱
-        int end = Math.min(start + limit, allBuilds.size());
-        List<JenkinsBuildListResponse> sliced = start < allBuilds.size() ? allBuilds.subList(start, end) : List.of();
-        boolean hasNext = end < allBuilds.size();
-        Integer nextStart = hasNext ? end : null;
-
-        return JenkinsBuildPageResponse.builder()
-                .builds(sliced)
-                .hasNext(hasNext)
-                .nextStart(nextStart)
-                .build();
+        // 로컬 빌드 인덱스에서 조회. start 는 이전 페이지의 nextStart(마지막 빌드 번호)이고, 0 이면 최신 빌드부터
+        return jenkinsBuildIndexService.getBuildPage(info, start, Math.max(1, Math.min(limit, MAX_BUILD_PAGE_SIZE)));
     }
 
     @Override
@@ -116,12 +104,15 @@ public class JenkinsServiceImpl implements JenkinsService {
         projectAccessValidator.validateUserInProject(projectId, accessToken);
         JenkinsInfo info = getJenkinsInfo(projectId);
 
-        String wfapiJson = jenkinsClient.fetchBuildInfo(info, buildNumber + "/wfapi/describe");
-        String consoleLog = jenkinsClient.fetchBuildLog(info, buildNumber);
+        // 결과 확정 여부를 먼저 알아야 나머지 산출물을 캐시할 수 있으므로 api/json 부터 조회
+        JsonNode buildInfo = fetchBuildInfoNode(info, buildNumber);
+        boolean finished = isFinished(buildInfo);
 
-        List<JenkinsBuildStepResponse> steps = mergeStageStatusWithEchoes(wfapiJson, consoleLog);
+        String wfapiJson = jenkinsBuildArtifactCache.get(info, buildNumber, JenkinsBuildArtifact.WFAPI_DESCRIBE, finished,
+                () -> jenkinsClient.fetchBuildInfo(info, buildNumber + "/" + JenkinsBuildArtifact.WFAPI_DESCRIBE.getPath()));
+        ConsoleLogIndex logIndex = consoleLogIndexCache.load(info, buildNumber).index();
 
-        JsonNode buildInfo = safelyParseJson(jenkinsClient.fetchBuildInfo(info, buildNumber + "/api/json"));
+        List<JenkinsBuildStepResponse> steps = mergeStageStatusWithEchoes(wfapiJson, logIndex);
 
         String rawStatus = buildInfo.path("result").asText();
         BuildStatusType status = BuildStatusType.from(rawStatus);
@@ -136,13 +127,13 @@ public class JenkinsServiceImpl implements JenkinsService {
 
     @Override
     public String getBuildLogWithOutLogin(int buildNumber, Long projectId){
-        return jenkinsClient.fetchBuildLog(getJenkinsInfo(projectId), buildNumber);
+        return fetchBuildLog(getJenkinsInfo(projectId), buildNumber);
     }
 
     @Override
     public String getBuildLog(int buildNumber, Long projectId, String accessToken) {
         projectAccessValidator.validateUserInProject(projectId, accessToken);
-        return jenkinsClient.fetchBuildLog(getJenkinsInfo(projectId), buildNumber);
+        return fetchBuildLog(getJenkinsInfo(projectId), buildNumber);
     }
 
     @Override
@@ -170,7 +161,7 @@ public class JenkinsServiceImpl implements JenkinsService {
     public String getBuildStatus(int buildNumber, Long projectId, String accessToken) {
         projectAccessValidator.validateUserInProject(projectId, accessToken);
         JenkinsInfo info = getJenkinsInfo(projectId);
-        JsonNode build = safelyParseJson(jenkinsClient.fetchBuildInfo(info, buildNumber + "/api/json"));
+        JsonNode build = fetchBuildInfoNode(info, buildNumber);
         return build.path("result").asText();
     }
 
@@ -180,42 +171,27 @@ public class JenkinsServiceImpl implements JenkinsService {
     }
 
     @Override
-    @Transactional
     public void triggerBuild(Long projectId, String accessToken, String branchName) {
         projectAccessValidator.validateUserInProject(projectId, accessToken);
         JenkinsInfo info = getJenkinsInfo(projectId);
 
-        jenkinsClient.triggerBuild(info, branchName);
-
-        // 마지막 빌드 완료 대기 (최대 60초)
-        JsonNode lastBuild = waitUntilBuildCompleted(info, 60);
-
-        int buildNumber = lastBuild.path("number").asInt();
-        BuildStatus status = BuildStatus.valueOf(lastBuild.path("result").asText("UNKNOWN"));
-
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_STATUS_NOT_FOUND));
-        project.updateBuildStatus(status);
-
-        projectExecutionRepository.save(ProjectExecution.builder()
-                .projectId(projectId)
-                .executionType(ExecutionType.BUILD)
-                .projectExecutionTitle("#" + buildNumber + " MR 빌드")
-                .executionStatus(status)
-                .buildNumber(String.valueOf(buildNumber))
-                .createdAt(LocalDate.now())
-                .build());
+        long queueId = jenkinsClient.triggerBuild(info, branchName);
 
-        log.info("✅ Jenkins 빌드 결과 저장 완료: 프로젝트={}, 빌드번호=#{}", projectId, buildNumber);
+        // 요청 스레드는 바로 반환하고, 큐 항목이 받은 빌드 번호로 빌드가 끝나면 결과를 저장
+        jenkinsBuildCompletionRegistry.resolveBuildNumber(info, queueId).whenComplete((buildNumber, e) -> {
+            if (e != null) {
+                log.warn("⚠️ 트리거한 Jenkins 빌드 번호를 확인하지 못했습니다: 프로젝트={}, 큐 항목={}, error={}", projectId, queueId, e.getMessage());
+                return;
+            }
+            recordWhenFinished(info, buildNumber);
+        });
     }
 
-
-
     @Override
     public List<JenkinsBuildChangeResponse> getBuildChanges(int buildNumber, Long projectId, String accessToken) {
         projectAccessValidator.validateUserInProject(projectId, accessToken);
         JenkinsInfo info = getJenkinsInfo(projectId);
-        JsonNode root = safelyParseJson(jenkinsClient.fetchBuildInfo(info, buildNumber + "/api/json?tree=changeSets[items[commitId,author[fullName],msg,timestamp]]"));
+        JsonNode root = fetchChangeSets(info, buildNumber);
         JsonNode changeSets = root.path("changeSets");
 
         List<JenkinsBuildChangeResponse> changes = new ArrayList<>();
@@ -236,7 +212,7 @@ public class JenkinsServiceImpl implements JenkinsService {
     public List<JenkinsBuildChangeSummaryResponse> getBuildChangesWithSummary(int buildNumber, Long projectId, String accessToken) {
         projectAccessValidator.validateUserInProject(projectId, accessToken);
         JenkinsInfo info = getJenkinsInfo(projectId);
-        JsonNode root = safelyParseJson(jenkinsClient.fetchBuildInfo(info, buildNumber + "/api/json?tree=changeSets[items[commitId,author[fullName],msg,timestamp,paths[file]]]"));
+        JsonNode root = fetchChangeSets(info, buildNumber);
         JsonNode changeSets = root.path("changeSets");
 
         if (changeSets.isMissingNode() || changeSets.isEmpty()) {
@@ -264,31 +240,67 @@ public class JenkinsServiceImpl implements JenkinsService {
     }
 
     @Override
-    @Transactional
-    public void logLastBuildResultToProject(Long projectId) {
+    public void evictBuildCaches(Long projectId) {
+        jenkinsBuildArtifactCache.evictProject(projectId);
+        consoleLogIndexCache.evictProject(projectId);
+    }
 
+    @Override
+    public void logLastBuildResultToProject(Long projectId, Integer buildNumberParam) {
         JenkinsInfo info = getJenkinsInfo(projectId);
-        JsonNode lastBuild = safelyParseJson(
-                jenkinsClient.fetchBuildInfo(info, "lastBuild/api/json")
-        );
-
-        int buildNumber = lastBuild.path("number").asInt();
-        BuildStatus status = BuildStatus.valueOf(lastBuild.path("result").asText());
-
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_STATUS_NOT_FOUND));
-
-        project.updateBuildStatus(status);
-
-        projectExecutionRepository.save(ProjectExecution.builder()
-                .projectId(projectId)
-                .executionType(ExecutionType.BUILD)
-                .projectExecutionTitle("#" + buildNumber + " MR 빌드")
-                .executionStatus(status)
-                .buildNumber(String.valueOf(buildNumber))
-                .createdAt(LocalDate.now())
-                .createdTime(LocalTime.now())
-                .build());
+
+        // 콜백은 인증되지 않은 요청이므로 빌드 번호는 힌트로만 쓰고, 빌드가 실제로 있는지와 결과는 Jenkins 에서 확인
+        String path = (buildNumberParam != null && buildNumberParam > 0 ? buildNumberParam : "lastBuild") + "/api/json?tree=number";
+        int buildNumber = safelyParseJson(jenkinsClient.fetchBuildInfo(info, path)).path("number").asInt();
+        if (buildNumber <= 0) {
+            throw new BusinessException(ErrorCode.JENKINS_REQUEST_FAILED);
+        }
+
+        // post 단계에서 호출되어 보통 아직 진행 중이므로, 끝났다고 확인되면 기록하고 대기 중인 흐름을 깨움
+        recordWhenFinished(info, buildNumber);
+        jenkinsBuildCompletionRegistry.recheck(projectId, buildNumber);
+    }
+
+    private void recordWhenFinished(JenkinsInfo info, int buildNumber) {
+        Long projectId = info.getProjectId();
+
+        jenkinsBuildCompletionRegistry.await(info, buildNumber).whenComplete((result, e) -> {
+            if (e != null) {
+                log.warn("⚠️ Jenkins 빌드 완료를 확인하지 못해 결과를 저장하지 않습니다: 프로젝트={}, 빌드번호=#{}, error={}", projectId, buildNumber, e.getMessage());
+                return;
+            }
+
+            BuildStatus status = toBuildStatus(result);
+            boolean recorded = Boolean.TRUE.equals(transactionTemplate.execute(tx -> {
+                // 콜백과 폴링, 반복 호출이 겹쳐도 빌드당 한 번만 기록
+                if (projectExecutionRepository.existsByProjectIdAndExecutionTypeAndBuildNumber(
+                        projectId, ExecutionType.BUILD, String.valueOf(buildNumber))) {
+                    return false;
+                }
+
+                Project project = projectRepository.findById(projectId)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_STATUS_NOT_FOUND));
+                project.updateBuildStatus(status);
+
+                projectExecutionRepository.save(ProjectExecution.builder()
+                        .projectId(projectId)
+                        .executionType(ExecutionType.BUILD)
+                        .projectExecutionTitle("#" + buildNumber + " MR 빌드")
+                        .executionStatus(status)
+                        .buildNumber(String.valueOf(buildNumber))
+                        .createdAt(LocalDate.now())
+                        .createdTime(LocalTime.now())
+                        .build());
+                return true;
+            }));
+
+            // 빌드가 끝났으므로 다음 빌드 목록 조회에서 바로 다시 동기화
+            jenkinsBuildIndexService.invalidate(projectId);
+
+            if (recorded) {
+                log.info("✅ Jenkins 빌드 결과 저장 완료: 프로젝트={}, 빌드번호=#{}", projectId, buildNumber);
+            }
+        });
     }
 
     @Override
@@ -336,10 +348,6 @@ public class JenkinsServiceImpl implements JenkinsService {
         projectAccessValidator.validateUserInProject(projectId, accessToken);
         JenkinsInfo info = getJenkinsInfo(projectId);
 
-        // 전체 콘솔 로그 조회
-        String consoleLog = jenkinsClient.fetchBuildLog(info, buildNumber);
-        String[] lines = consoleLog.split("\n");
-
         int targetStepIndex;
         try {
             targetStepIndex = Integer.parseInt(stepNumber);
@@ -347,39 +355,65 @@ public class JenkinsServiceImpl implements JenkinsService {
             throw new BusinessException(ErrorCode.INVALID_STEP_ID);
         }
 
-        int currentStepIndex = 0;
-        String currentStage = null;
-        List<String> collected = new ArrayList<>();
-        boolean insideTargetStage = false;
-
-        for (String line : lines) {
-            if (line.contains("[Pipeline] { (")) {
-                currentStepIndex++;
-                String stageName = line.substring(line.indexOf('(') + 1, line.indexOf(')'));
-
-                if (currentStepIndex == targetStepIndex) {
-                    insideTargetStage = true;
-                    currentStage = stageName;
-                    collected.add("=== Stage: " + stageName + " ===");
-                } else {
-                    insideTargetStage = false;
-                }
-                continue;
-            }
+        // 인덱스의 스테이지 경계(byte offset)로 해당 구간만 잘라서 반환
+        ConsoleLogIndexCache.IndexedConsoleLog indexed = consoleLogIndexCache.load(info, buildNumber);
+        ConsoleLogIndex.Stage stage = indexed.index().stage(targetStepIndex)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_STEP_ID));
 
-            if (insideTargetStage) {
-                collected.add(line);
-            }
+        String header = "=== Stage: " + stage.name() + " ===";
+        String body = consoleLogIndexCache.stageLog(info, buildNumber, indexed, stage);
+
+        return body.isEmpty() ? header : header + "\n" + body;
+    }
+
+    private JsonNode fetchBuildInfoNode(JenkinsInfo info, int buildNumber) {
+        Optional<String> cached = jenkinsBuildArtifactCache.find(info, buildNumber, JenkinsBuildArtifact.BUILD_INFO);
+        if (cached.isPresent()) {
+            return safelyParseJson(cached.get());
         }
 
-        if (collected.isEmpty()) {
-            throw new BusinessException(ErrorCode.INVALID_STEP_ID);
+        String json = jenkinsClient.fetchBuildInfo(info, buildNumber + "/" + JenkinsBuildArtifact.BUILD_INFO.getPath());
+        JsonNode build = safelyParseJson(json);
+        if (isFinished(build)) {
+            jenkinsBuildArtifactCache.put(info, buildNumber, JenkinsBuildArtifact.BUILD_INFO, json);
+        }
+        return build;
+    }
+
+    // 캐시에 없으면 결과 확정 여부부터 확인 (끝난 빌드라면 api/json 도 캐시에서 나옴)
+    private String fetchBuildArtifact(JenkinsInfo info, int buildNumber, JenkinsBuildArtifact artifact, Supplier<String> loader) {
+        Optional<String> cached = jenkinsBuildArtifactCache.find(info, buildNumber, artifact);
+        if (cached.isPresent()) {
+            return cached.get();
         }
 
-        return String.join("\n", collected);
+        boolean finished = isFinished(fetchBuildInfoNode(info, buildNumber));
+        String value = loader.get();
+        if (finished) {
+            jenkinsBuildArtifactCache.put(info, buildNumber, artifact, value);
+        }
+        return value;
+    }
+
+    private JsonNode fetchChangeSets(JenkinsInfo info, int buildNumber) {
+        return safelyParseJson(fetchBuildArtifact(info, buildNumber, JenkinsBuildArtifact.CHANGE_SETS,
+                () -> jenkinsClient.fetchBuildInfo(info, buildNumber + "/" + JenkinsBuildArtifact.CHANGE_SETS.getPath())));
     }
 
-    private List<JenkinsBuildStepResponse> mergeStageStatusWithEchoes(String wfapiJson, String consoleLog) {
+    private String fetchBuildLog(JenkinsInfo info, int buildNumber) {
+        return fetchBuildArtifact(info, buildNumber, JenkinsBuildArtifact.CONSOLE_LOG,
+                () -> jenkinsClient.fetchBuildLog(info, buildNumber));
+    }
+
+    // building=false 이고 result 가 채워져 있으면 더 이상 바뀌지 않는 빌드
+    // (catchError 는 빌드 진행 중에도 result 를 FAILURE 로 채우므로 result 만으로는 판단할 수 없음)
+    private boolean isFinished(JsonNode build) {
+        JsonNode result = build.path("result");
+        return !build.path("building").asBoolean(true)
+                && !result.isMissingNode() && !result.isNull() && !result.asText().isBlank();
+    }
+
+    private List<JenkinsBuildStepResponse> mergeStageStatusWithEchoes(String wfapiJson, ConsoleLogIndex logIndex) {
         JsonNode wfapi = safelyParseJson(wfapiJson);
         JsonNode stages = wfapi.path("stages");
 
@@ -390,7 +424,7 @@ public class JenkinsServiceImpl implements JenkinsService {
             stageStatusMap.put(name, status);
         }
 
-        Map<String, List<String>> echoMap = extractEchoesFromConsole(consoleLog);
+        Map<String, ConsoleLogIndex.Stage> indexedStages = logIndex.stagesByName();
 
         List<JenkinsBuildStepResponse> stepList = new ArrayList<>();
         int stepNumber = 1;
@@ -399,7 +433,8 @@ public class JenkinsServiceImpl implements JenkinsService {
             String stageName = entry.getKey();
             String status = entry.getValue();
 
-            List<String> echoes = echoMap.getOrDefault(stageName, Collections.emptyList());
+            ConsoleLogIndex.Stage indexedStage = indexedStages.get(stageName);
+            List<String> echoes = indexedStage == null ? Collections.emptyList() : indexedStage.echoes();
             List<JenkinsBuildEchoResponse> echoDtos = new ArrayList<>();
             int echoNumber = 1;
             for (String echo : echoes) {
@@ -415,6 +450,7 @@ public class JenkinsServiceImpl implements JenkinsService {
                     .stepName(stageName)
                     .status(status)
                     .duration("-")
+                    .errorCount(indexedStage == null ? 0 : indexedStage.errorCount())
                     .echoList(echoDtos)
                     .build());
         }
@@ -422,48 +458,6 @@ public class JenkinsServiceImpl implements JenkinsService {
         return stepList;
     }
 
-    private Map<String, List<String>> extractEchoesFromConsole(String consoleLog) {
-        Map<String, List<String>> stageEchoMap = new LinkedHashMap<>();
-        String[] lines = consoleLog.split("\n");
-
-        String currentStage = null;
-        List<String> currentEchoes = new ArrayList<>();
-        boolean expectingEcho = false;
-
-        for (String rawLine : lines) {
-            String line = rawLine.trim();
-
-            if (line.startsWith("[Pipeline] { (")) {
-                if (currentStage != null) {
-                    stageEchoMap.put(currentStage, new ArrayList<>(currentEchoes));
-                }
-                int startIdx = line.indexOf('(');
-                int endIdx = line.indexOf(')', startIdx);
-                if (startIdx != -1 && endIdx != -1) {
-                    currentStage = line.substring(startIdx + 1, endIdx).trim();
-                    currentEchoes.clear();
-                }
-                continue;
-            }
-
-            if (line.contains("[Pipeline] echo")) {
-                expectingEcho = true;
-                continue;
-            }
-
-            if (expectingEcho && !line.startsWith("[Pipeline]") && !line.isBlank()) {
-                currentEchoes.add(line);
-                expectingEcho = false;
-            }
-        }
-
-        if (currentStage != null) {
-            stageEchoMap.put(currentStage, currentEchoes);
-        }
-
-        return stageEchoMap;
-    }
-
     private long calculateDuration(String start, String end) {
         try {
             LocalTime startTime = LocalTime.parse(start, TIME_FORMATTER);
@@ -568,27 +562,16 @@ public class JenkinsServiceImpl implements JenkinsService {
     }
 
     @Override
-    public ReportStatus waitUntilBuildFinishes(int newBuildNumber, Long projectId) {
-        int maxTries = 60; //5초간 60번 총 5분진행
-        int intervalMillis = 5000;
-
-        for (int i = 0; i < maxTries; i++) {
-            String status = getBuildStatusWithOutLogin(newBuildNumber, projectId); // 🔥 핵심: 이게 "BUILDING"인지 체크
-            log.debug(">>>>>>>> Jenkins build #{} 상태 = {}", newBuildNumber, status);
-
-            if (!"BUILDING".equalsIgnoreCase(status)) {
-                log.debug("✅ Jenkins 빌드 완료: status = {}", status);
-                return ReportStatus.fromJenkinsStatus(status); // SUCCESS / FAIL 반환
-            }
-
-            try {
-                Thread.sleep(intervalMillis);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, projectId, ServerStatus.BUILD_FAIL_WITH_AI);
-            }
-        }
-        return ReportStatus.FAIL;
+    public CompletableFuture<ReportStatus> awaitBuildFinish(int newBuildNumber, Long projectId) {
+        return jenkinsBuildCompletionRegistry.await(getJenkinsInfo(projectId), newBuildNumber)
+                .handle((status, e) -> {
+                    if (e != null) {
+                        log.warn("⚠️ Jenkins 빌드 #{} 완료 대기 실패: {}", newBuildNumber, e.getMessage());
+                        return ReportStatus.FAIL;
+                    }
+                    log.debug("✅ Jenkins 빌드 완료: status = {}", status);
+                    return ReportStatus.fromJenkinsStatus(status); // SUCCESS / FAIL 반환
+                });
     }
 
     private JenkinsInfo getJenkinsInfo(Long projectId) {
@@ -596,26 +579,12 @@ public class JenkinsServiceImpl implements JenkinsService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.JENKINS_INFO_NOT_FOUND));
     }
 
-    private JsonNode waitUntilBuildCompleted(JenkinsInfo info, int timeoutSeconds) {
-        int elapsed = 0;
-        int interval = 2;
-
-        while (elapsed < timeoutSeconds) {
-            JsonNode lastBuild = safelyParseJson(jenkinsClient.fetchBuildInfo(info, "lastBuild/api/json"));
-            String result = lastBuild.path("result").asText();
-
-            if (!result.isEmpty() && !result.equals("null")) {
-                return lastBuild;
-            }
-
-            try {
-                Thread.sleep(interval * 1000L);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            elapsed += interval;
+    // BuildStatus 에 없는 결과(NOT_BUILT 등)는 실패로 기록
+    private BuildStatus toBuildStatus(String result) {
+        try {
+            return BuildStatus.valueOf(result);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return BuildStatus.FAILURE;
         }
-
-        throw new BusinessException(ErrorCode.BUSINESS_ERROR);
     }
 }
@@ -53,6 +53,10 @@ public class Project {
     private String jdkVersion;
     private String jdkBuildTool;
 
+    // 배포할 백엔드/프론트엔드 컨테이너 수 (null 이면 1개)
+    private Integer backendReplicas;
+    private Integer frontendReplicas;
+
     private boolean autoDeploymentEnabled;
     private boolean httpsEnabled;
 
@@ -90,5 +94,22 @@ public class Project {
         this.serverIP = newServerIP;
     }
 
+    public void updateReplicas(Integer backendReplicas, Integer frontendReplicas) {
+        if (backendReplicas != null) {
+            this.backendReplicas = backendReplicas;
+        }
+        if (frontendReplicas != null) {
+            this.frontendReplicas = frontendReplicas;
+        }
+    }
+
+    public int getBackendReplicas() {
+        return backendReplicas == null ? 1 : backendReplicas;
+    }
+
+    public int getFrontendReplicas() {
+        return frontendReplicas == null ? 1 : frontendReplicas;
+    }
+
 }
 
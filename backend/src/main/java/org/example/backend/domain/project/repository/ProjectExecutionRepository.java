@@ -1,6 +1,7 @@
 package org.example.backend.domain.project.repository;
 
 import org.example.backend.domain.project.entity.ProjectExecution;
+import org.example.backend.domain.project.enums.ExecutionType;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -8,4 +9,6 @@ import java.util.List;
 public interface ProjectExecutionRepository extends JpaRepository<ProjectExecution, Long> {
     List<ProjectExecution> findByProjectIdInOrderByCreatedAtDesc(List<Long> projectIds);
 
+    boolean existsByProjectIdAndExecutionTypeAndBuildNumber(Long projectId, ExecutionType executionType, String buildNumber);
+
 }
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.backend.common.session.RedisSessionManager;
 import org.example.backend.common.session.dto.SessionInfoDto;
+import org.example.backend.common.util.ServerAutoDeploymentFileManagerUtil;
 import org.example.backend.controller.request.project.ProjectCreateRequest;
 import org.example.backend.controller.request.project.ProjectUpdateRequest;
 import org.example.backend.controller.response.project.*;
@@ -69,6 +70,8 @@ public class ProjectServiceImpl implements ProjectService {
 
         String projectName = extractProjectNameFromUrl(request.getRepositoryUrl());
 
+        validateReplicas(request.getBackendReplicas(), request.getFrontendReplicas());
+
         Project project = Project.builder()
                 .ownerId(userId)
                 .projectName(projectName)
@@ -84,6 +87,8 @@ public class ProjectServiceImpl implements ProjectService {
                 .frontendFramework(request.getFrontendFramework())
                 .jdkVersion(request.getJdkVersion())
                 .jdkBuildTool(request.getJdkBuildTool())
+                .backendReplicas(request.getBackendReplicas())
+                .frontendReplicas(request.getFrontendReplicas())
                 .autoDeploymentEnabled(false)
                 .httpsEnabled(false)
                 .serverStatus(ServerStatus.INIT)
@@ -176,6 +181,9 @@ public class ProjectServiceImpl implements ProjectService {
             project.updateServerIP(request.getServerIP());
         }
 
+        validateReplicas(request.getBackendReplicas(), request.getFrontendReplicas());
+        project.updateReplicas(request.getBackendReplicas(), request.getFrontendReplicas());
+
         try {
             if (clientEnvFile != null && !clientEnvFile.isEmpty()) {
                 upsertEnvFile(projectId, clientEnvFile, FileType.FRONTEND_ENV);
@@ -275,6 +283,8 @@ public class ProjectServiceImpl implements ProjectService {
                 .domainName(project.getDomainName())
                 .jdkVersion(project.getJdkVersion())
                 .jdkBuildTool(project.getJdkBuildTool())
+                .backendReplicas(project.getBackendReplicas())
+                .frontendReplicas(project.getFrontendReplicas())
                 .applicationList(projectApplicationList.stream()
                         .map(app -> {
                             List<String> envs = envMap.getOrDefault(app.getApplicationId(), List.of());
@@ -541,6 +551,15 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
 
+    // 레플리카마다 호스트 포트를 하나씩 쓰므로 upstream 포트 대역을 넘지 않게 제한합니다.
+    private void validateReplicas(Integer... replicas) {
+        for (Integer count : replicas) {
+            if (count != null && (count < 1 || count > ServerAutoDeploymentFileManagerUtil.MAX_REPLICAS)) {
+                throw new BusinessException(ErrorCode.INVALID_PARAMETER);
+            }
+        }
+    }
+
     private String extractProjectNameFromUrl(String url) {
         if (url == null || !url.endsWith(".git")) return "unknown";
         String[] parts = url.split("/");
@@ -39,6 +39,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -114,9 +115,32 @@ public class CICDResolverServiceImpl implements CICDResolverService {
             log.warn(">>>>>>>>3-3호출완료, 4-1 호출 예정");
 
             // 4. 빌드 결과 확인 → MR 생성 → AI 리포트 요청 및 저장
-            // 4-1. Jenkins 빌드 결과 상태 확인
-            ReportStatus reportStatus  = getBuildStatus(newBuildNumber, projectId);
+            // 4-1. Jenkins 빌드 결과 상태 확인. 빌드가 끝나면(완료 콜백 또는 폴링) 이어서 진행하고, 그동안 스레드는 점유하지 않음
+            getBuildStatus(newBuildNumber, projectId).whenComplete((reportStatus, e) -> {
+                if (e != null) {
+                    log.error("❌ 셀프 힐링 빌드 결과 확인 실패: 프로젝트={}, 빌드번호=#{}", projectId, newBuildNumber, e);
+                    serverStatusService.updateStatus(project, ServerStatus.FAIL_WTIH_AI);
+                    return;
+                }
+                completeSelfHealing(project, resolveResults, suspectedApps, newBranch, commitUrl, newBuildNumber, accessToken, reportStatus);
+            });
+        } catch (Exception e) {
+            serverStatusService.updateStatus(project, ServerStatus.FAIL_WTIH_AI);
+
+            throw new BusinessException(
+                    ErrorCode.INTERNAL_SERVER_ERROR,
+                    projectId,
+                    ServerStatus.FAIL_WTIH_AI
+            );
+        }
+    }
+
+    // 4-2 ~ 4-4. 재빌드가 끝난 뒤 AI 리포트 생성, MR 생성, 리포트 저장
+    private void completeSelfHealing(Project project, List<ResolveErrorResponse> resolveResults, List<String> suspectedApps,
+                                     String newBranch, String commitUrl, int newBuildNumber, String accessToken, ReportStatus reportStatus) {
+        Long projectId = project.getId();
 
+        try {
             // 4-2. AI 요약 보고서 생성 요청 및 수신
             serverStatusService.updateStatus(project, ServerStatus.CREATING_REPORT);
             Map<String, AIReportResponse> reportResponses = createAIReports(resolveResults, suspectedApps, projectId);
@@ -144,13 +168,9 @@ public class CICDResolverServiceImpl implements CICDResolverService {
                 serverStatusService.updateStatus(project, ServerStatus.FAIL_WTIH_AI);
             }
         } catch (Exception e) {
+            // 비동기로 이어지는 단계라 호출자에게 예외를 전달할 곳이 없으므로 상태만 실패로 남김
+            log.error("❌ 셀프 힐링 마무리 실패: 프로젝트={}, 빌드번호=#{}", projectId, newBuildNumber, e);
             serverStatusService.updateStatus(project, ServerStatus.FAIL_WTIH_AI);
-
-            throw new BusinessException(
-                    ErrorCode.INTERNAL_SERVER_ERROR,
-                    projectId,
-                    ServerStatus.FAIL_WTIH_AI
-            );
         }
     }
 
@@ -400,8 +420,8 @@ public class CICDResolverServiceImpl implements CICDResolverService {
     }
 
     // 4-1. 마지막 Jenkins 빌드 상태 조회
-    private ReportStatus getBuildStatus(int newBuildNumber, Long projectId) {
-        return jenkinsService.waitUntilBuildFinishes(newBuildNumber, projectId);
+    private CompletableFuture<ReportStatus> getBuildStatus(int newBuildNumber, Long projectId) {
+        return jenkinsService.awaitBuildFinish(newBuildNumber, projectId);
     }
 
     // 4-2. AI리포트 요청 및 응답 결과 매핑
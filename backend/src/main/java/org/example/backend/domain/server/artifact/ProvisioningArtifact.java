@@ -0,0 +1,34 @@
+package org.example.backend.domain.server.artifact;
+
+/**
+ * 서버마다 반복해서 내려받던 프로비저닝 파일 (GPG 키, 플러그인 묶음 등).
+ * version 이 바뀌면 컨트롤 플레인 캐시와 서버에 전송된 파일이 모두 새로 만들어집니다.
+ *
+ * @param name     캐시 디렉토리 이름
+ * @param version  캐시 버전 (upstream 이 같은 URL 로 내용을 바꾸는 경우 올려서 무효화)
+ * @param url      원본 다운로드 주소
+ * @param fileName 서버에 놓일 파일 이름
+ */
+public record ProvisioningArtifact(String name, String version, String url, String fileName) {
+
+    public static final ProvisioningArtifact DOCKER_GPG_KEY = new ProvisioningArtifact(
+            "docker-gpg-key", "1",
+            "https://download.docker.com/linux/ubuntu/gpg",
+            "docker.gpg");
+
+    public static final ProvisioningArtifact JENKINS_KEYRING = new ProvisioningArtifact(
+            "jenkins-keyring", "2023",
+            "https://pkg.jenkins.io/debian/jenkins.io-2023.key",
+            "jenkins-keyring.asc");
+
+    public static final ProvisioningArtifact JENKINS_PLUGIN_MANAGER = new ProvisioningArtifact(
+            "jenkins-plugin-manager", "2.12.13",
+            "https://github.com/jenkinsci/plugin-installation-manager-tool/releases/download/2.12.13/jenkins-plugin-manager-2.12.13.jar",
+            "jenkins-plugin-cli.jar");
+
+    // 의존 플러그인까지 포함된 .jpi 묶음
+    public static final ProvisioningArtifact JENKINS_PLUGINS = new ProvisioningArtifact(
+            "jenkins-plugins", "1",
+            "https://a609-betty-bucket.s3.ap-northeast-2.amazonaws.com/jenkins/plugins/plugins-cache.tar.gz",
+            "plugins-cache.tar.gz");
+}
@@ -0,0 +1,160 @@
+package org.example.backend.domain.server.artifact;
+
+import com.jcraft.jsch.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.common.ssh.SshCommandExecutor;
+import org.example.backend.common.ssh.SshCommandResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버마다 외부에서 받던 프로비저닝 파일을 컨트롤 플레인에 한 번만 받아두고, SSH 로 서버에 직접 전송합니다.
+ * - 로컬 캐시는 {dir}/{name}/{version}/{fileName} 에 저장되며, 같은 버전은 다시 받지 않습니다.
+ * - 서버 전송은 필요한 파일을 tar.gz 스트림 하나로 묶어 exec 채널 stdin 으로 보내고, 원격에서 바로 풉니다.
+ * - 서버에는 묶음 버전별 디렉토리가 남으므로, 이미 전송된 묶음은 다시 보내지 않습니다.
+ * 캐시를 끄거나 원본 다운로드에 실패하면 Optional.empty() 를 돌려주고, 호출하는 쪽은 기존처럼 서버에서 직접 받습니다.
+ */
+@Slf4j
+@Component
+public class ProvisioningArtifactCache {
+
+    private static final String REMOTE_ROOT = "/opt/seed/artifacts";
+    private static final String COMPLETE_MARKER = ".complete";
+    private static final long PUSH_TIMEOUT_SECONDS = 600;
+
+    private final SshCommandExecutor sshCommandExecutor;
+    private final WebClient downloadClient;
+
+    @Value("${provisioning.artifact-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${provisioning.artifact-cache.dir:${java.io.tmpdir}/seed-artifact-cache}")
+    private String cacheDir;
+
+    @Value("${provisioning.artifact-cache.download-timeout-seconds:300}")
+    private long downloadTimeoutSeconds;
+
+    // 같은 파일을 여러 작업이 동시에 받지 않도록 파일별로 잠급니다.
+    private final Map<ProvisioningArtifact, Object> downloadLocks = new ConcurrentHashMap<>();
+
+    public ProvisioningArtifactCache(SshCommandExecutor sshCommandExecutor) {
+        this.sshCommandExecutor = sshCommandExecutor;
+        // GitHub 릴리스 등은 리다이렉트되므로 따라가도록 설정
+        this.downloadClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create().followRedirect(true)))
+                .build();
+    }
+
+    /**
+     * 파일들을 서버로 전송하고, 파일이 놓인 원격 디렉토리를 돌려줍니다.
+     */
+    public Optional<String> push(Session session, List<ProvisioningArtifact> artifacts) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            List<TarGzipStreamWriter.TarEntry> entries = new ArrayList<>();
+            for (ProvisioningArtifact artifact : artifacts) {
+                entries.add(new TarGzipStreamWriter.TarEntry(artifact.fileName(), resolve(artifact)));
+            }
+
+            String remoteDir = REMOTE_ROOT + "/" + bundleVersion(artifacts);
+
+            SshCommandResult existing = sshCommandExecutor.execute(session, "test -f " + remoteDir + "/" + COMPLETE_MARKER);
+            if (existing.isSuccess()) {
+                log.info("프로비저닝 파일 묶음이 이미 전송되어 있습니다: {}", remoteDir);
+                return Optional.of(remoteDir);
+            }
+
+            // 압축 해제가 끝난 뒤에만 완료 표시를 남겨, 중간에 끊긴 묶음은 다음 실행에서 다시 보냅니다.
+            String command = String.format(
+                    "sudo rm -rf %1$s && sudo mkdir -p %1$s && sudo tar xzf - -C %1$s --no-same-owner && sudo touch %1$s/%2$s",
+                    remoteDir, COMPLETE_MARKER);
+
+            SshCommandResult result = sshCommandExecutor.executeWithInput(session, command, PUSH_TIMEOUT_SECONDS,
+                    stdin -> TarGzipStreamWriter.write(stdin, entries));
+
+            if (!result.isSuccess()) {
+                log.warn("프로비저닝 파일 전송 실패 (exit={}): {}", result.exitStatus(), result.output());
+                return Optional.empty();
+            }
+
+            log.info("프로비저닝 파일 묶음 전송 완료: {} ({}개)", remoteDir, entries.size());
+            return Optional.of(remoteDir);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("프로비저닝 파일 캐시 사용 불가, 서버에서 직접 내려받습니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 로컬 캐시 파일 경로. 없으면 원본에서 받아옵니다.
+    Path resolve(ProvisioningArtifact artifact) throws IOException {
+        Path target = Paths.get(cacheDir, artifact.name(), artifact.version(), artifact.fileName());
+        if (Files.exists(target)) {
+            return target;
+        }
+
+        synchronized (downloadLocks.computeIfAbsent(artifact, key -> new Object())) {
+            if (Files.exists(target)) {
+                return target;
+            }
+
+            Files.createDirectories(target.getParent());
+            Path partial = Files.createTempFile(target.getParent(), artifact.fileName(), ".part");
+
+            try {
+                Flux<DataBuffer> body = downloadClient.get()
+                        .uri(artifact.url())
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class);
+
+                DataBufferUtils.write(body, partial).block(Duration.ofSeconds(downloadTimeoutSeconds));
+                Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (RuntimeException e) {
+                Files.deleteIfExists(partial);
+                throw new IOException("프로비저닝 파일 다운로드 실패: " + artifact.url(), e);
+            }
+
+            log.info("프로비저닝 파일 캐시 저장: {} ({} bytes)", target, Files.size(target));
+            return target;
+        }
+    }
+
+    // 묶음 구성(이름/버전)이 같으면 같은 원격 디렉토리를 씁니다.
+    private String bundleVersion(List<ProvisioningArtifact> artifacts) {
+        StringBuilder key = new StringBuilder();
+        artifacts.stream()
+                .sorted(Comparator.comparing(ProvisioningArtifact::name))
+                .forEach(artifact -> key.append(artifact.name()).append('@').append(artifact.version()).append(';'));
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.backend.domain.server.artifact;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 파일 목록을 ustar 형식의 tar.gz 스트림으로 씁니다. 원격에서 "tar xzf -" 로 바로 풀 수 있습니다.
+ * 파일 이름만 담는 평평한 구조로, 이름은 100바이트 이하여야 합니다.
+ */
+class TarGzipStreamWriter {
+
+    private static final int BLOCK_SIZE = 512;
+
+    private TarGzipStreamWriter() {
+    }
+
+    static void write(OutputStream target, Iterable<TarEntry> entries) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(target, 64 * 1024);
+
+        for (TarEntry entry : entries) {
+            long size = Files.size(entry.source());
+            gzip.write(header(entry.name(), size));
+
+            try (InputStream in = Files.newInputStream(entry.source())) {
+                in.transferTo(gzip);
+            }
+
+            int padding = (int) ((BLOCK_SIZE - size % BLOCK_SIZE) % BLOCK_SIZE);
+            gzip.write(new byte[padding]);
+        }
+
+        // 아카이브 끝: 빈 블록 두 개
+        gzip.write(new byte[BLOCK_SIZE * 2]);
+        gzip.finish();
+        gzip.flush();
+    }
+
+    private static byte[] header(String name, long size) {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        if (nameBytes.length > 100) {
+            throw new IllegalArgumentException("tar 엔트리 이름이 너무 깁니다: " + name);
+        }
+
+        byte[] header = new byte[BLOCK_SIZE];
+        System.arraycopy(nameBytes, 0, header, 0, nameBytes.length);
+        putOctal(header, 100, 8, 0644);
+        putOctal(header, 108, 8, 0);
+        putOctal(header, 116, 8, 0);
+        putOctal(header, 124, 12, size);
+        putOctal(header, 136, 12, System.currentTimeMillis() / 1000);
+        header[156] = '0';
+        System.arraycopy("ustar\u000000".getBytes(StandardCharsets.US_ASCII), 0, header, 257, 8);
+
+        // 체크섬 계산 시 체크섬 칸은 공백으로 간주
+        for (int i = 148; i < 156; i++) {
+            header[i] = ' ';
+        }
+        long checksum = 0;
+        for (byte b : header) {
+            checksum += b & 0xff;
+        }
+        putOctal(header, 148, 7, checksum);
+
+        return header;
+    }
+
+    // length-1 자리 8진수 + NUL
+    private static void putOctal(byte[] header, int offset, int length, long value) {
+        String octal = String.format("%0" + (length - 1) + "o", value);
+        byte[] bytes = octal.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, header, offset, length - 1);
+        header[offset + length - 1] = 0;
+    }
+
+    record TarEntry(String name, Path source) {
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.backend.domain.server.capacity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 호스트 자원을 컨테이너별로 나눈 계획.
+ *
+ * @param cpuCount         호스트 CPU 수 (Docker info NCPU)
+ * @param memoryTotalMb    호스트 전체 메모리 (Docker info MemTotal)
+ * @param reservedMemoryMb OS/Docker/nginx 와 호스트에서 도는 Jenkins 몫으로 남겨 둔 메모리
+ * @param allocations      컨테이너별 배분
+ */
+public record ContainerCapacityPlan(int cpuCount, long memoryTotalMb, long reservedMemoryMb, List<Allocation> allocations) {
+
+    /**
+     * @param containerName 컨테이너 이름
+     * @param workload      컨테이너 종류
+     * @param replicas      레플리카 수 (레플리카마다 같은 제한)
+     * @param memoryMb      컨테이너당 메모리 제한
+     * @param cpus          컨테이너당 CPU 제한
+     * @param jvmOptions    JVM 옵션 (JVM 컨테이너가 아니면 null)
+     */
+    public record Allocation(String containerName, ContainerWorkload workload, int replicas, int memoryMb, double cpus, String jvmOptions) {
+    }
+
+    public long plannedMemoryMb() {
+        return allocations.stream()
+                .mapToLong(allocation -> (long) allocation.memoryMb() * allocation.replicas())
+                .sum();
+    }
+
+    // 최소 메모리를 보장하느라 배분 합계가 쓸 수 있는 메모리를 넘었는지
+    public boolean overcommitted() {
+        return plannedMemoryMb() > memoryTotalMb - reservedMemoryMb;
+    }
+
+    /**
+     * 미리보기로 보여준 계획과 적용하려는 계획이 같은지 확인하는 해시.
+     * 그 사이 호스트 자원이나 컨테이너 구성이 바뀌면 값이 달라집니다.
+     */
+    public String planHash() {
+        StringBuilder joined = new StringBuilder()
+                .append(cpuCount).append('|').append(memoryTotalMb).append('|').append(reservedMemoryMb);
+        for (Allocation allocation : allocations) {
+            joined.append('|').append(allocation);
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joined.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
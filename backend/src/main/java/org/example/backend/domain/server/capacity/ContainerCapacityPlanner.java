@@ -0,0 +1,72 @@
+package org.example.backend.domain.server.capacity;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Docker 데몬이 알려준 호스트 CPU/메모리를 컨테이너별 제한(--memory, --cpus)과 JVM 옵션으로 나눕니다.
+ * - 메모리: OS/Docker/nginx 와 호스트에서 도는 Jenkins 몫을 먼저 떼고, 나머지를 가중치 비율로 나눕니다.
+ *           컨테이너는 스왑을 쓰지 않게 제한하므로 합계가 실제 메모리를 넘지 않는 것이 목표입니다.
+ * - CPU   : 압축 가능한 자원이라 가중치 몫의 CPU_BURST_FACTOR 배까지 쓰게 해 한가한 컨테이너의 몫을 빌려 쓰게 합니다.
+ */
+@Component
+public class ContainerCapacityPlanner {
+
+    private static final long SYSTEM_RESERVED_MB = 512;
+    private static final long JENKINS_MIN_MB = 512;
+    private static final long JENKINS_MAX_MB = 2048;
+    private static final int MEMORY_UNIT_MB = 64;
+
+    private static final double CPU_BURST_FACTOR = 2.0;
+    private static final double MIN_CPUS = 0.5;
+
+    // JVM 이 서버급 머신으로 판단해 G1 을 고르는 기준(2 CPU, 1792MB)과 맞춥니다. 그보다 작으면 Serial GC 가 오버헤드가 적습니다.
+    private static final int G1_MIN_MEMORY_MB = 1792;
+    private static final double G1_MIN_CPUS = 2.0;
+
+    public ContainerCapacityPlan plan(int cpuCount, long memoryTotalMb, List<ContainerDemand> demands, int jdkMajorVersion) {
+        int cpus = Math.max(1, cpuCount);
+        long reserved = SYSTEM_RESERVED_MB + Math.max(JENKINS_MIN_MB, Math.min(JENKINS_MAX_MB, memoryTotalMb / 5));
+        long available = Math.max(0, memoryTotalMb - reserved);
+
+        int totalWeight = demands.stream()
+                .mapToInt(demand -> demand.workload().getWeight() * demand.replicas())
+                .sum();
+
+        List<ContainerCapacityPlan.Allocation> allocations = new ArrayList<>();
+        for (ContainerDemand demand : demands) {
+            ContainerWorkload workload = demand.workload();
+            double share = totalWeight == 0 ? 1.0 : (double) workload.getWeight() / totalWeight;
+
+            int memoryMb = (int) Math.max(workload.getMinMemoryMb(), (long) (available * share) / MEMORY_UNIT_MB * MEMORY_UNIT_MB);
+            double containerCpus = Math.max(MIN_CPUS, Math.min(cpus, Math.round(cpus * share * CPU_BURST_FACTOR * 10) / 10.0));
+            String jvmOptions = workload == ContainerWorkload.SPRING ? jvmOptions(memoryMb, containerCpus, jdkMajorVersion) : null;
+
+            allocations.add(new ContainerCapacityPlan.Allocation(
+                    demand.containerName(), workload, demand.replicas(), memoryMb, containerCpus, jvmOptions));
+        }
+
+        return new ContainerCapacityPlan(cpus, memoryTotalMb, reserved, allocations);
+    }
+
+    private String jvmOptions(int memoryMb, double cpus, int jdkMajorVersion) {
+        List<String> options = new ArrayList<>();
+
+        // 힙은 컨테이너 제한의 75%, 나머지는 메타스페이스/스레드 스택/다이렉트 버퍼 몫
+        options.add("-XX:MaxRAMPercentage=75.0");
+        options.add(memoryMb < G1_MIN_MEMORY_MB || cpus < G1_MIN_CPUS ? "-XX:+UseSerialGC" : "-XX:+UseG1GC");
+
+        // JDK 19+ 는 첫 종료 때 애플리케이션 클래스까지 담은 CDS 아카이브를 만들어 재시작을 앞당기고,
+        // 그 전 버전은 JDK 기본 CDS 아카이브만 씁니다.
+        if (jdkMajorVersion >= 19) {
+            options.add("-XX:+AutoCreateSharedArchive");
+            options.add("-XX:SharedArchiveFile=/tmp/seed-app.jsa");
+        } else {
+            options.add("-Xshare:auto");
+        }
+
+        return String.join(" ", options);
+    }
+}
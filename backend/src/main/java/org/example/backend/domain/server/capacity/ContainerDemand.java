@@ -0,0 +1,11 @@
+package org.example.backend.domain.server.capacity;
+
+/**
+ * 자원 계획 대상 컨테이너.
+ *
+ * @param containerName 컨테이너 이름 (레플리카가 있으면 첫 번째 레플리카 이름)
+ * @param workload      컨테이너 종류
+ * @param replicas      같은 제한으로 띄우는 컨테이너 수
+ */
+public record ContainerDemand(String containerName, ContainerWorkload workload, int replicas) {
+}
@@ -0,0 +1,42 @@
+package org.example.backend.domain.server.capacity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * 컨테이너 종류별 자원 배분 가중치와 최소 메모리.
+ * 남는 메모리/CPU 는 가중치 비율로 나누고, 최소 메모리보다 작게는 주지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ContainerWorkload {
+
+    DATABASE(3, 512),
+    CACHE(1, 128),
+    SPRING(4, 384),
+    NODE_SERVER(2, 256),
+    STATIC_WEB(1, 128),
+    GENERIC(2, 256);
+
+    private final int weight;
+    private final int minMemoryMb;
+
+    public static ContainerWorkload ofImage(String imageName) {
+        String image = imageName == null ? "" : imageName.toLowerCase(Locale.ROOT);
+
+        if (image.contains("mysql") || image.contains("mariadb") || image.contains("postgres") || image.contains("mongo")) {
+            return DATABASE;
+        }
+        if (image.contains("redis") || image.contains("memcached") || image.contains("valkey")) {
+            return CACHE;
+        }
+        return GENERIC;
+    }
+
+    public static ContainerWorkload ofFrontend(String frontendFramework) {
+        // Vue/React 는 빌드 결과물을 정적 서버로 내보내고, Next.js 는 Node 서버를 띄웁니다.
+        return "Vue.js".equals(frontendFramework) || "React".equals(frontendFramework) ? STATIC_WEB : NODE_SERVER;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.backend.domain.server.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "container_resource_limits",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"projectId", "containerName"}))
+public class ContainerResourceLimit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long projectId;
+
+    // 레플리카가 있으면 첫 번째 레플리카 이름 (spring, react 등). 나머지 레플리카도 같은 제한을 씁니다.
+    @Column(length = 100)
+    private String containerName;
+
+    private int memoryMb;
+
+    private double cpus;
+
+    // JAVA_TOOL_OPTIONS 로 넘기는 JVM 옵션 (JVM 컨테이너가 아니면 null)
+    @Column(length = 500)
+    private String jvmOptions;
+
+    private LocalDateTime appliedAt;
+}
@@ -21,6 +21,7 @@ public class HttpsLog {
 
     private String stepName;
 
+    // 조각 저장 이전에 기록된 로그만 본문을 직접 가집니다. 이후 로그는 https_log_chunks 에 나뉘어 저장됩니다.
     @Lob
     @Column(columnDefinition = "TEXT")
     private String logContent;
@@ -28,6 +29,18 @@ public class HttpsLog {
     @Column(nullable = false)
     private String status;
 
+    // 조각으로 저장된 원문 전체 크기 (bytes)
+    private Long totalBytes;
+
     private LocalDateTime createdAt;
+
+    public void updateTotalBytes(long totalBytes) {
+        this.totalBytes = totalBytes;
+    }
+
+    public void finish(String status, long totalBytes) {
+        this.status = status;
+        this.totalBytes = totalBytes;
+    }
 }
 
@@ -0,0 +1,34 @@
+package org.example.backend.domain.server.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 단계 로그의 압축된 조각. 원문 기준 [startOffset, endOffset) 바이트 구간을 담습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "https_log_chunks",
+        indexes = @Index(name = "idx_https_log_chunk_log_offset", columnList = "logId, startOffset"))
+public class HttpsLogChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long logId;
+
+    private int seq;
+
+    private long startOffset;
+
+    private long endOffset;
+
+    // deflate 압축된 원문
+    @Lob
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private byte[] data;
+}
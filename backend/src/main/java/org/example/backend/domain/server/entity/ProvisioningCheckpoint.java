@@ -0,0 +1,36 @@
+package org.example.backend.domain.server.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "provisioning_checkpoints",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"projectId", "stepName"}))
+public class ProvisioningCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long projectId;
+
+    @Column(length = 50)
+    private String stepName;
+
+    // 단계 입력값(설정 파일 내용, 환경변수 등) 해시. 입력이 바뀌면 체크포인트가 무효화됩니다.
+    @Column(length = 64)
+    private String inputHash;
+
+    private LocalDateTime completedAt;
+
+    public void complete(String inputHash) {
+        this.inputHash = inputHash;
+        this.completedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.backend.domain.server.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.backend.domain.project.enums.ServerStatus;
+import org.example.backend.domain.server.enums.ProvisioningJobStatus;
+import org.example.backend.domain.server.enums.ProvisioningJobType;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "provisioning_jobs",
+        uniqueConstraints = @UniqueConstraint(columnNames = "activeProjectId"))
+public class ProvisioningJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long projectId;
+
+    // 대기/실행 중인 동안만 projectId 를 담습니다. 유니크 제약으로 프로젝트당 진행 중인 작업을 하나로 제한하고, 끝나면 비웁니다.
+    private Long activeProjectId;
+
+    private String serverIP;
+
+    // 일괄 프로비저닝 요청으로 등록된 작업이면 같은 batchId 를 가짐
+    @Column(length = 36)
+    private String batchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProvisioningJobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProvisioningJobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private ServerStatus currentStep;
+
+    private int progress;
+
+    private Integer errorCode;
+
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public void start() {
+        this.status = ProvisioningJobStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void updateStep(ServerStatus step) {
+        int stepProgress = jobType.progressOf(step);
+        if (stepProgress < 0) {
+            return;
+        }
+        this.currentStep = step;
+        this.progress = Math.max(this.progress, stepProgress);
+    }
+
+    public void succeed() {
+        this.status = ProvisioningJobStatus.SUCCEEDED;
+        this.activeProjectId = null;
+        this.progress = 100;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(Integer errorCode, String errorMessage) {
+        this.status = ProvisioningJobStatus.FAILED;
+        this.activeProjectId = null;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == ProvisioningJobStatus.SUCCEEDED || status == ProvisioningJobStatus.FAILED;
+    }
+}
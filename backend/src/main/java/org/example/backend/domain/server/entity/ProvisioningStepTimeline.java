@@ -0,0 +1,52 @@
+package org.example.backend.domain.server.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.backend.domain.server.enums.ProvisioningJobType;
+import org.example.backend.domain.server.enums.ProvisioningStepOutcome;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "provisioning_step_timelines",
+        indexes = {
+                @Index(name = "idx_step_timeline_job", columnList = "jobId"),
+                @Index(name = "idx_step_timeline_started", columnList = "startedAt"),
+                @Index(name = "idx_step_timeline_project_started", columnList = "projectId, startedAt")
+        })
+public class ProvisioningStepTimeline {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long jobId;
+
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private ProvisioningJobType jobType;
+
+    @Column(length = 50)
+    private String stepName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ProvisioningStepOutcome outcome;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private long durationMillis;
+
+    // 단계에서 실행한 원격 명령 수와 출력 크기
+    private int commandCount;
+
+    private long outputBytes;
+}
@@ -0,0 +1,8 @@
+package org.example.backend.domain.server.enums;
+
+public enum ProvisioningJobStatus {
+    QUEUED,     // 작업 대기열 등록
+    RUNNING,    // 워커에서 실행 중
+    SUCCEEDED,  // 정상 완료
+    FAILED      // 실패 (중간 단계 실패, 대기열 초과, 서버 재시작 등)
+}
@@ -0,0 +1,51 @@
+package org.example.backend.domain.server.enums;
+
+import lombok.Getter;
+import org.example.backend.domain.project.enums.ServerStatus;
+
+import java.util.List;
+
+@Getter
+public enum ProvisioningJobType {
+    DEPLOYMENT(List.of(
+            ServerStatus.SET_SWAP_MEMORY,
+            ServerStatus.UPDATE_PACKAGE,
+            ServerStatus.INSTALL_JDK,
+            ServerStatus.INSTALL_DOCKER,
+            ServerStatus.RUN_APPLICATION,
+            ServerStatus.INSTALL_NGINX,
+            ServerStatus.INSTALL_JENKINS,
+            ServerStatus.INSTALL_JENKINS_PLUGINS,
+            ServerStatus.SET_JENKINS_INFO,
+            ServerStatus.CREATE_JENKINS_PIPELINE,
+            ServerStatus.CREATE_JENKINSFILE,
+            ServerStatus.CREATE_FRONTEND_DOCKERFILE,
+            ServerStatus.CREATE_WEBHOOK,
+            ServerStatus.CREATE_BACKEND_DOCKERFILE
+    )),
+    CONVERT_HTTPS(List.of(
+            ServerStatus.INSTALL_CERTBOT,
+            ServerStatus.CREATE_NGINX_CONFIGURATION_FILE,
+            ServerStatus.RELOAD_NGINX,
+            ServerStatus.ISSUE_SSL_CERTIFICATE,
+            ServerStatus.EDIT_NGINX_CONFIGURATION_FILE
+    ));
+
+    private final List<ServerStatus> steps;
+
+    ProvisioningJobType(List<ServerStatus> steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * 해당 단계가 시작될 때의 진행률(0~99)을 반환합니다.
+     * 작업 유형에 속하지 않는 단계면 -1 을 반환합니다.
+     */
+    public int progressOf(ServerStatus step) {
+        int index = steps.indexOf(step);
+        if (index < 0) {
+            return -1;
+        }
+        return index * 100 / steps.size();
+    }
+}
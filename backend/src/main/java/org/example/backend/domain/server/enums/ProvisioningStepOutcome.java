@@ -0,0 +1,7 @@
+package org.example.backend.domain.server.enums;
+
+public enum ProvisioningStepOutcome {
+    SUCCEEDED,
+    FAILED,
+    SKIPPED
+}
@@ -0,0 +1,57 @@
+package org.example.backend.domain.server.log;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 로그 조각 압축/해제. 명령 출력은 반복이 많아 보통 5~10배 이상 줄어듭니다.
+ */
+@UtilityClass
+public class HttpsLogChunkCodec {
+
+    public static byte[] compress(byte[] raw, int length) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw, 0, length);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static byte[] decompress(byte[] compressed, int originalLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+
+            byte[] raw = new byte[originalLength];
+            int read = 0;
+            while (read < originalLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, originalLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != originalLength) {
+                throw new IllegalStateException("로그 조각 길이가 일치하지 않습니다.");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("로그 조각 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
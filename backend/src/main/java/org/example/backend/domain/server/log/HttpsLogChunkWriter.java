@@ -0,0 +1,93 @@
+package org.example.backend.domain.server.log;
+
+import org.example.backend.common.ssh.SshOutputChunk;
+import org.example.backend.common.ssh.SshOutputListener;
+import org.example.backend.common.ssh.SshStreamType;
+import org.example.backend.domain.server.entity.HttpsLogChunk;
+import org.example.backend.domain.server.repository.HttpsLogChunkRepository;
+import org.example.backend.domain.server.repository.HttpsLogRepository;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 명령 출력을 받는 대로 고정 크기 버퍼에 모았다가, 가득 차면 압축해서 조각으로 저장합니다.
+ * 실행 중 메모리 사용량은 출력 크기와 관계없이 조각 크기 하나로 제한됩니다.
+ * 조각을 저장할 때마다 로그의 전체 크기도 갱신하므로, 실행 중인 로그도 저장된 곳까지 페이지로 읽을 수 있습니다.
+ * 같은 로그에 여러 명령의 출력이 이어서 쓰이므로 close 는 단계가 끝날 때 한 번만 호출합니다.
+ */
+public class HttpsLogChunkWriter implements SshOutputListener {
+
+    private static final byte[] STDERR_PREFIX = "[ERROR] ".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpsLogChunkRepository httpsLogChunkRepository;
+    private final HttpsLogRepository httpsLogRepository;
+    private final Long logId;
+
+    private final byte[] buffer;
+    private int buffered;
+
+    private int seq;
+    private long flushedBytes;
+
+    public HttpsLogChunkWriter(HttpsLogChunkRepository httpsLogChunkRepository, HttpsLogRepository httpsLogRepository, Long logId, int chunkBytes) {
+        this.httpsLogChunkRepository = httpsLogChunkRepository;
+        this.httpsLogRepository = httpsLogRepository;
+        this.logId = logId;
+        this.buffer = new byte[chunkBytes];
+    }
+
+    @Override
+    public void onOutput(SshOutputChunk chunk) {
+        if (chunk.streamType() == SshStreamType.STDERR) {
+            write(STDERR_PREFIX);
+        }
+        write(chunk.data());
+    }
+
+    public void append(String text) {
+        write(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public synchronized void write(byte[] data) {
+        int offset = 0;
+        while (offset < data.length) {
+            int length = Math.min(buffer.length - buffered, data.length - offset);
+            System.arraycopy(data, offset, buffer, buffered, length);
+            buffered += length;
+            offset += length;
+
+            if (buffered == buffer.length) {
+                flush();
+            }
+        }
+    }
+
+    // 남은 출력을 저장하고 전체 크기를 돌려줍니다.
+    public synchronized long close() {
+        flush();
+        return flushedBytes;
+    }
+
+    private void flush() {
+        if (buffered == 0) {
+            return;
+        }
+
+        httpsLogChunkRepository.save(HttpsLogChunk.builder()
+                .logId(logId)
+                .seq(seq++)
+                .startOffset(flushedBytes)
+                .endOffset(flushedBytes + buffered)
+                .data(HttpsLogChunkCodec.compress(buffer, buffered))
+                .build());
+
+        flushedBytes += buffered;
+        buffered = 0;
+
+        long totalBytes = flushedBytes;
+        httpsLogRepository.findById(logId).ifPresent(log -> {
+            log.updateTotalBytes(totalBytes);
+            httpsLogRepository.save(log);
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.backend.domain.server.provisioning;
+
+import java.util.Optional;
+
+/**
+ * 한 프로젝트(서버)의 단계별 완료 기록.
+ */
+public interface ProvisioningCheckpointStore {
+
+    Optional<String> findInputHash(String stepName);
+
+    void save(String stepName, String inputHash);
+}
@@ -0,0 +1,17 @@
+package org.example.backend.domain.server.provisioning;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * 프로비저닝 단계가 공유하는 자원 이름.
+ * 하나의 실행은 한 서버만 대상으로 하므로 잠금 범위는 곧 서버(호스트) 단위입니다.
+ */
+@UtilityClass
+public class ProvisioningLocks {
+
+    // apt / dpkg 는 동시에 하나만 실행할 수 있음 (/var/lib/dpkg/lock-frontend)
+    public static final String DPKG = "dpkg";
+
+    // 같은 Git 작업 디렉토리에 커밋/푸시하는 단계
+    public static final String GIT_WORKSPACE = "git-workspace";
+}
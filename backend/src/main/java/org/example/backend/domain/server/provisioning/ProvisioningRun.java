@@ -0,0 +1,9 @@
+package org.example.backend.domain.server.provisioning;
+
+import org.example.backend.domain.server.enums.ProvisioningJobType;
+
+/**
+ * 실행 중인 프로비저닝 작업 정보. 단계 타임라인을 어느 작업에 기록할지 구분하는 데 사용합니다.
+ */
+public record ProvisioningRun(Long jobId, Long projectId, ProvisioningJobType jobType) {
+}
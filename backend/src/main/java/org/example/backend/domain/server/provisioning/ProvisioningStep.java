@@ -0,0 +1,40 @@
+package org.example.backend.domain.server.provisioning;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import org.example.backend.domain.project.enums.ServerStatus;
+
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 프로비저닝 DAG 의 단계 하나.
+ * - dependencies : 먼저 끝나야 하는 단계 이름
+ * - locks        : 실행 중 독점해야 하는 자원 (예: dpkg 잠금). 같은 자원을 쓰는 단계는 동시에 실행되지 않습니다.
+ * - status       : 진행 상황으로 노출할 ServerStatus (없으면 상태를 바꾸지 않는 내부 단계)
+ * - probe        : 이미 적용되어 있는지 확인하는 가벼운 검사. 체크포인트가 있고 검사를 통과하면 재시도 시 건너뜁니다.
+ *                  (없으면 항상 다시 실행)
+ * - inputHash    : 단계 입력값 해시. 체크포인트와 다르면 다시 실행합니다.
+ */
+@Getter
+@Builder
+public class ProvisioningStep {
+
+    private final String name;
+
+    private final ServerStatus status;
+
+    @Singular("dependsOn")
+    private final Set<String> dependencies;
+
+    @Singular
+    private final Set<String> locks;
+
+    private final Runnable action;
+
+    private final BooleanSupplier probe;
+
+    @Builder.Default
+    private final String inputHash = "";
+}
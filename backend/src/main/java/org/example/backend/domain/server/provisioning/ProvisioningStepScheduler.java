@@ -0,0 +1,208 @@
+package org.example.backend.domain.server.provisioning;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.project.enums.ServerStatus;
+import org.example.backend.domain.server.enums.ProvisioningStepOutcome;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * 의존 관계와 자원 잠금이 선언된 프로비저닝 단계를 실행합니다.
+ * - 의존 단계가 모두 끝났고, 필요한 잠금이 비어 있는 단계는 동시에 실행됩니다.
+ * - 준비된 단계가 여러 개면 선언 순서대로 먼저 실행합니다.
+ * - 체크포인트가 남아 있고(입력 해시 동일) probe 를 통과한 단계는 건너뜁니다.
+ *   재실행 여부는 단계 자신의 입력 해시와 probe 로만 정합니다. 앞 단계가 다시 실행됐다고 뒤 단계를 모두 다시 돌리지 않으므로,
+ *   앞 단계 결과에 따라 달라지는 단계는 그 값을 입력 해시나 probe 에 반영해야 합니다.
+ * - 한 단계라도 실패하면 새 단계는 시작하지 않고, 실행 중인 단계가 끝나기를 기다린 뒤 첫 번째 실패를 던집니다.
+ * - 진행 상황은 "선언 순서상 아직 끝나지 않은 첫 단계" 로 보고하므로 동시에 실행돼도 상태가 앞뒤로 흔들리지 않습니다.
+ * - 단계마다 소요 시간/명령 수/출력 크기를 ProvisioningStepTimer 로 기록합니다. (건너뛴 단계는 SKIPPED)
+ * 스케줄링 판단은 호출 스레드 하나에서만 이루어지므로 잠금/상태 집합에는 별도 동기화가 필요 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProvisioningStepScheduler {
+
+    private final ProvisioningStepTimer provisioningStepTimer;
+
+    @Value("${provisioning.step.max-parallelism:3}")
+    private int maxParallelism;
+
+    private final ExecutorService stepThreads = Executors.newCachedThreadPool(new CustomizableThreadFactory("provisioning-step-"));
+
+    public void run(List<ProvisioningStep> steps, ProvisioningCheckpointStore checkpointStore, Consumer<ServerStatus> statusReporter) {
+        validate(steps);
+
+        Set<String> completed = new HashSet<>();
+        Set<String> running = new HashSet<>();
+        Set<String> heldLocks = new HashSet<>();
+        CompletionService<StepOutcome> completion = new ExecutorCompletionService<>(stepThreads);
+        ProvisioningRun run = provisioningStepTimer.currentRun();
+
+        RuntimeException failure = null;
+        ServerStatus reported = report(steps, completed, null, statusReporter);
+
+        while (true) {
+            if (failure == null) {
+                for (ProvisioningStep step : steps) {
+                    if (running.size() >= maxParallelism) {
+                        break;
+                    }
+                    if (isReady(step, completed, running, heldLocks)) {
+                        running.add(step.getName());
+                        heldLocks.addAll(step.getLocks());
+                        completion.submit(() -> execute(step, checkpointStore, run));
+                        log.info("프로비저닝 단계 시작: {} (동시 실행 {}개)", step.getName(), running.size());
+                    }
+                }
+            }
+
+            if (running.isEmpty()) {
+                break;
+            }
+
+            StepOutcome outcome;
+            try {
+                outcome = completion.take().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException(ErrorCode.AUTO_DEPLOYMENT_SETTING_FAILED);
+            } catch (ExecutionException e) {
+                // execute() 는 예외를 StepOutcome 으로 감싸므로 도달하지 않음
+                throw new BusinessException(ErrorCode.AUTO_DEPLOYMENT_SETTING_FAILED);
+            }
+
+            ProvisioningStep step = outcome.step();
+            running.remove(step.getName());
+            heldLocks.removeAll(step.getLocks());
+
+            if (outcome.error() == null) {
+                completed.add(step.getName());
+                reported = report(steps, completed, reported, statusReporter);
+            } else if (failure == null) {
+                log.error("프로비저닝 단계 실패: {}", step.getName());
+                failure = toRuntimeException(outcome.error());
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        if (completed.size() != steps.size()) {
+            // 검증을 통과했다면 발생하지 않음
+            throw new IllegalStateException("실행되지 않은 프로비저닝 단계가 있습니다.");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        stepThreads.shutdownNow();
+    }
+
+    private StepOutcome execute(ProvisioningStep step, ProvisioningCheckpointStore checkpointStore, ProvisioningRun run) {
+        ProvisioningStepTimer.StepRecording recording = provisioningStepTimer.start(run, step.getName());
+
+        try {
+            if (isAlreadyApplied(step, checkpointStore)) {
+                log.info("프로비저닝 단계 건너뜀 (체크포인트 확인): {}", step.getName());
+                recording.finish(ProvisioningStepOutcome.SKIPPED);
+                return new StepOutcome(step, true, null);
+            }
+
+            step.getAction().run();
+            checkpointStore.save(step.getName(), step.getInputHash());
+            recording.finish(ProvisioningStepOutcome.SUCCEEDED);
+            return new StepOutcome(step, false, null);
+
+        } catch (Throwable e) {
+            recording.finish(ProvisioningStepOutcome.FAILED);
+            return new StepOutcome(step, false, e);
+        }
+    }
+
+    private boolean isAlreadyApplied(ProvisioningStep step, ProvisioningCheckpointStore checkpointStore) {
+        if (step.getProbe() == null) {
+            return false;
+        }
+
+        boolean checkpointMatches = checkpointStore.findInputHash(step.getName())
+                .filter(step.getInputHash()::equals)
+                .isPresent();
+
+        return checkpointMatches && step.getProbe().getAsBoolean();
+    }
+
+    private boolean isReady(ProvisioningStep step, Set<String> completed, Set<String> running, Set<String> heldLocks) {
+        return !completed.contains(step.getName())
+                && !running.contains(step.getName())
+                && completed.containsAll(step.getDependencies())
+                && Collections.disjoint(heldLocks, step.getLocks());
+    }
+
+    private ServerStatus report(List<ProvisioningStep> steps, Set<String> completed, ServerStatus reported, Consumer<ServerStatus> statusReporter) {
+        ServerStatus current = steps.stream()
+                .filter(step -> step.getStatus() != null)
+                .filter(step -> !completed.contains(step.getName()))
+                .map(ProvisioningStep::getStatus)
+                .findFirst()
+                .orElse(reported);
+
+        if (current != null && current != reported) {
+            statusReporter.accept(current);
+        }
+        return current;
+    }
+
+    // 이름 중복, 존재하지 않는 의존 단계, 순환 의존을 미리 검사합니다.
+    private void validate(List<ProvisioningStep> steps) {
+        Map<String, ProvisioningStep> byName = new LinkedHashMap<>();
+        for (ProvisioningStep step : steps) {
+            if (byName.put(step.getName(), step) != null) {
+                throw new IllegalArgumentException("중복된 프로비저닝 단계: " + step.getName());
+            }
+        }
+
+        for (ProvisioningStep step : steps) {
+            for (String dependency : step.getDependencies()) {
+                if (!byName.containsKey(dependency)) {
+                    throw new IllegalArgumentException(step.getName() + " 의 의존 단계가 없습니다: " + dependency);
+                }
+            }
+        }
+
+        Set<String> visited = new HashSet<>();
+        boolean progressed = true;
+        while (progressed) {
+            progressed = false;
+            for (ProvisioningStep step : steps) {
+                if (!visited.contains(step.getName()) && visited.containsAll(step.getDependencies())) {
+                    visited.add(step.getName());
+                    progressed = true;
+                }
+            }
+        }
+        if (visited.size() != steps.size()) {
+            throw new IllegalArgumentException("프로비저닝 단계에 순환 의존이 있습니다.");
+        }
+    }
+
+    private RuntimeException toRuntimeException(Throwable error) {
+        if (error instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new BusinessException(ErrorCode.AUTO_DEPLOYMENT_SETTING_FAILED);
+    }
+
+    private record StepOutcome(ProvisioningStep step, boolean skipped, Throwable error) {
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.backend.domain.server.provisioning;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.server.entity.ProvisioningStepTimeline;
+import org.example.backend.domain.server.enums.ProvisioningStepOutcome;
+import org.example.backend.domain.server.repository.ProvisioningStepTimelineRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로비저닝 단계와 단계 안의 원격 명령 소요 시간을 측정합니다.
+ * - provisioning.step.duration    : 단계별 소요 시간 (tag: type, step, outcome)
+ * - provisioning.command.duration : 원격 명령별 소요 시간 (tag: step, outcome)
+ * 두 타이머 모두 히스토그램을 내보내므로 /actuator/metrics 나 외부 수집기에서 백분위를 계산할 수 있고,
+ * 작업 안에서 실행된 단계는 provisioning_step_timelines 에 시작/종료 시각과 출력 크기가 남습니다.
+ *
+ * 현재 작업/단계는 스레드 로컬로 전달되므로 단계 코드나 명령 실행 코드가 작업 정보를 직접 넘길 필요가 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProvisioningStepTimer {
+
+    private static final String UNKNOWN_STEP = "UNKNOWN";
+
+    private static final ThreadLocal<ProvisioningRun> CURRENT_RUN = new ThreadLocal<>();
+    private static final ThreadLocal<StepRecording> CURRENT_STEP = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final ProvisioningStepTimelineRepository provisioningStepTimelineRepository;
+
+    // 작업 실행 동안 현재 스레드를 작업에 묶습니다.
+    public void runJob(ProvisioningRun run, Runnable task) {
+        CURRENT_RUN.set(run);
+        try {
+            task.run();
+        } finally {
+            CURRENT_RUN.remove();
+        }
+    }
+
+    // 단계가 다른 스레드에서 실행될 때 넘겨줄 수 있도록 현재 작업을 돌려줍니다. (작업 밖이면 null)
+    public ProvisioningRun currentRun() {
+        return CURRENT_RUN.get();
+    }
+
+    /**
+     * 현재 스레드에서 단계 측정을 시작합니다. 반드시 finish 로 끝내야 합니다.
+     */
+    public StepRecording start(ProvisioningRun run, String stepName) {
+        StepRecording recording = new StepRecording(run, stepName);
+        CURRENT_STEP.set(recording);
+        return recording;
+    }
+
+    // 같은 스레드에서 순서대로 실행되는 단계(HTTPS 전환 등)를 측정합니다.
+    public void time(String stepName, Runnable action) {
+        StepRecording recording = start(currentRun(), stepName);
+        try {
+            action.run();
+            recording.finish(ProvisioningStepOutcome.SUCCEEDED);
+        } catch (RuntimeException e) {
+            recording.finish(ProvisioningStepOutcome.FAILED);
+            throw e;
+        }
+    }
+
+    /**
+     * 원격 명령 하나의 소요 시간을 현재 단계 이름으로 기록합니다.
+     */
+    public void recordCommand(long elapsedNanos, boolean success, long outputBytes) {
+        StepRecording recording = CURRENT_STEP.get();
+        String stepName = (recording == null) ? UNKNOWN_STEP : recording.stepName;
+
+        Timer.builder("provisioning.command.duration")
+                .tag("step", stepName)
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (recording != null) {
+            recording.commandCount.incrementAndGet();
+            recording.outputBytes.addAndGet(outputBytes);
+        }
+    }
+
+    public class StepRecording {
+
+        private final ProvisioningRun run;
+        private final String stepName;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+
+        // 단계 안에서 명령 실행이 다른 스레드로 넘어가도 안전하도록 원자 변수로 누적합니다.
+        private final AtomicInteger commandCount = new AtomicInteger();
+        private final AtomicLong outputBytes = new AtomicLong();
+
+        private StepRecording(ProvisioningRun run, String stepName) {
+            this.run = run;
+            this.stepName = stepName;
+        }
+
+        public void finish(ProvisioningStepOutcome outcome) {
+            CURRENT_STEP.remove();
+
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            Timer.builder("provisioning.step.duration")
+                    .tag("type", run == null ? UNKNOWN_STEP : run.jobType().name())
+                    .tag("step", stepName)
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            if (run == null) {
+                return;
+            }
+
+            try {
+                provisioningStepTimelineRepository.save(ProvisioningStepTimeline.builder()
+                        .jobId(run.jobId())
+                        .projectId(run.projectId())
+                        .jobType(run.jobType())
+                        .stepName(stepName)
+                        .outcome(outcome)
+                        .startedAt(startedAt)
+                        .finishedAt(LocalDateTime.now())
+                        .durationMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                        .commandCount(commandCount.get())
+                        .outputBytes(outputBytes.get())
+                        .build());
+            } catch (Exception e) {
+                // 측정 기록 실패로 프로비저닝 자체가 실패하지 않도록 로그만 남깁니다.
+                log.warn("단계 타임라인 저장 실패: jobId={}, step={}", run.jobId(), stepName, e);
+            }
+        }
+    }
+}
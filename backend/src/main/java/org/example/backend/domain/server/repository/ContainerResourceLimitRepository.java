@@ -0,0 +1,13 @@
+package org.example.backend.domain.server.repository;
+
+import org.example.backend.domain.server.entity.ContainerResourceLimit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ContainerResourceLimitRepository extends JpaRepository<ContainerResourceLimit, Long> {
+    List<ContainerResourceLimit> findAllByProjectId(Long projectId);
+    Optional<ContainerResourceLimit> findByProjectIdAndContainerName(Long projectId, String containerName);
+    void deleteAllByProjectId(Long projectId);
+}
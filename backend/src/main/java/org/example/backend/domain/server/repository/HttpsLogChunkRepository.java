@@ -0,0 +1,11 @@
+package org.example.backend.domain.server.repository;
+
+import org.example.backend.domain.server.entity.HttpsLogChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface HttpsLogChunkRepository extends JpaRepository<HttpsLogChunk, Long> {
+    // [from, to) 구간과 겹치는 조각
+    List<HttpsLogChunk> findAllByLogIdAndEndOffsetGreaterThanAndStartOffsetLessThanOrderBySeqAsc(Long logId, long from, long to);
+}
@@ -0,0 +1,10 @@
+package org.example.backend.domain.server.repository;
+
+import org.example.backend.domain.server.entity.ProvisioningCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ProvisioningCheckpointRepository extends JpaRepository<ProvisioningCheckpoint, Long> {
+    Optional<ProvisioningCheckpoint> findByProjectIdAndStepName(Long projectId, String stepName);
+}
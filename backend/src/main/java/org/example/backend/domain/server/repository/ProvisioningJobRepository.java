@@ -0,0 +1,17 @@
+package org.example.backend.domain.server.repository;
+
+import org.example.backend.domain.server.entity.ProvisioningJob;
+import org.example.backend.domain.server.enums.ProvisioningJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProvisioningJobRepository extends JpaRepository<ProvisioningJob, Long> {
+    Optional<ProvisioningJob> findFirstByProjectIdAndStatusOrderByIdDesc(Long projectId, ProvisioningJobStatus status);
+    List<ProvisioningJob> findAllByStatusIn(Collection<ProvisioningJobStatus> statuses);
+    List<ProvisioningJob> findTop20ByProjectIdOrderByIdDesc(Long projectId);
+    List<ProvisioningJob> findAllByBatchIdOrderByIdAsc(String batchId);
+    boolean existsByProjectIdAndStatusIn(Long projectId, Collection<ProvisioningJobStatus> statuses);
+}
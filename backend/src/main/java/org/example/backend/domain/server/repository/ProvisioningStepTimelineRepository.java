@@ -0,0 +1,22 @@
+package org.example.backend.domain.server.repository;
+
+import org.example.backend.domain.server.entity.ProvisioningStepTimeline;
+import org.example.backend.domain.server.enums.ProvisioningStepOutcome;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProvisioningStepTimelineRepository extends JpaRepository<ProvisioningStepTimeline, Long> {
+    List<ProvisioningStepTimeline> findAllByJobIdOrderByStartedAtAsc(Long jobId);
+
+    // 백분위 계산에는 단계 이름과 소요 시간만 필요하므로 엔티티 전체를 읽지 않습니다.
+    // 최근 기록부터 pageable 크기만큼만 읽어 기간이 길어도 읽는 행 수가 제한됩니다.
+    @Query("SELECT t.jobType, t.stepName, t.durationMillis FROM ProvisioningStepTimeline t " +
+            "WHERE t.projectId = :projectId AND t.outcome = :outcome AND t.startedAt >= :since ORDER BY t.startedAt DESC")
+    List<Object[]> findRecentDurations(@Param("projectId") Long projectId, @Param("outcome") ProvisioningStepOutcome outcome,
+                                       @Param("since") LocalDateTime since, Pageable pageable);
+}
@@ -0,0 +1,8 @@
+package org.example.backend.domain.server.service;
+
+import org.example.backend.controller.response.server.ContainerCapacityPlanResponse;
+
+public interface ContainerCapacityService {
+    ContainerCapacityPlanResponse previewPlan(Long projectId, String accessToken);
+    ContainerCapacityPlanResponse applyPlan(Long projectId, String planHash, String accessToken);
+}
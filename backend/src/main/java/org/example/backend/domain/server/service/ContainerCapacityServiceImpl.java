@@ -0,0 +1,125 @@
+package org.example.backend.domain.server.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.common.auth.ProjectAccessValidator;
+import org.example.backend.common.util.ServerAutoDeploymentFileManagerUtil;
+import org.example.backend.controller.response.docker.DemonContainerStateCountResponse;
+import org.example.backend.controller.response.server.ContainerCapacityPlanResponse;
+import org.example.backend.domain.docker.service.DockerApiClient;
+import org.example.backend.domain.project.entity.Project;
+import org.example.backend.domain.project.repository.ProjectApplicationRepository;
+import org.example.backend.domain.project.repository.ProjectRepository;
+import org.example.backend.domain.server.capacity.ContainerCapacityPlan;
+import org.example.backend.domain.server.capacity.ContainerCapacityPlanner;
+import org.example.backend.domain.server.capacity.ContainerDemand;
+import org.example.backend.domain.server.capacity.ContainerWorkload;
+import org.example.backend.domain.server.entity.ContainerResourceLimit;
+import org.example.backend.domain.server.repository.ContainerResourceLimitRepository;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContainerCapacityServiceImpl implements ContainerCapacityService {
+
+    private static final int DEFAULT_JDK_VERSION = 17;
+
+    private final ContainerCapacityPlanner containerCapacityPlanner;
+    private final DockerApiClient dockerApiClient;
+    private final ProjectAccessValidator projectAccessValidator;
+    private final ProjectRepository projectRepository;
+    private final ProjectApplicationRepository projectApplicationRepository;
+    private final ContainerResourceLimitRepository containerResourceLimitRepository;
+
+    @Override
+    public ContainerCapacityPlanResponse previewPlan(Long projectId, String accessToken) {
+        projectAccessValidator.validateUserInProject(projectId, accessToken);
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND));
+
+        return ContainerCapacityPlanResponse.of(projectId, plan(project), null);
+    }
+
+    @Override
+    @Transactional
+    public ContainerCapacityPlanResponse applyPlan(Long projectId, String planHash, String accessToken) {
+        projectAccessValidator.validateUserInProject(projectId, accessToken);
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND));
+
+        // 사용자가 확인한 계획과 지금 계산한 계획이 다르면 적용하지 않습니다.
+        ContainerCapacityPlan plan = plan(project);
+        if (!plan.planHash().equals(planHash)) {
+            throw new BusinessException(ErrorCode.CAPACITY_PLAN_CHANGED);
+        }
+
+        LocalDateTime appliedAt = LocalDateTime.now();
+        containerResourceLimitRepository.deleteAllByProjectId(projectId);
+        containerResourceLimitRepository.flush();
+        containerResourceLimitRepository.saveAll(plan.allocations().stream()
+                .map(allocation -> ContainerResourceLimit.builder()
+                        .projectId(projectId)
+                        .containerName(allocation.containerName())
+                        .memoryMb(allocation.memoryMb())
+                        .cpus(allocation.cpus())
+                        .jvmOptions(allocation.jvmOptions())
+                        .appliedAt(appliedAt)
+                        .build())
+                .toList());
+
+        updateRunningContainers(project.getServerIP(), plan);
+
+        return ContainerCapacityPlanResponse.of(projectId, plan, appliedAt);
+    }
+
+    private ContainerCapacityPlan plan(Project project) {
+        DemonContainerStateCountResponse info = dockerApiClient.getInfo(project.getServerIP());
+        if (info == null || info.getNcpu() <= 0 || info.getMemTotal() <= 0) {
+            throw new BusinessException(ErrorCode.DOCKER_HEALTH_FAILED);
+        }
+
+        List<ContainerDemand> demands = new ArrayList<>();
+        demands.add(new ContainerDemand(ServerAutoDeploymentFileManagerUtil.BACKEND_CONTAINER_NAME, ContainerWorkload.SPRING, project.getBackendReplicas()));
+        demands.add(new ContainerDemand(ServerAutoDeploymentFileManagerUtil.frontendContainerName(project.getFrontendFramework()),
+                ContainerWorkload.ofFrontend(project.getFrontendFramework()), project.getFrontendReplicas()));
+        projectApplicationRepository.findAllByProjectId(project.getId())
+                .forEach(app -> demands.add(new ContainerDemand(app.getImageName(), ContainerWorkload.ofImage(app.getImageName()), 1)));
+
+        return containerCapacityPlanner.plan(info.getNcpu(), info.getMemTotal() / (1024 * 1024), demands, jdkMajorVersion(project.getJdkVersion()));
+    }
+
+    // 메모리/CPU 제한은 실행 중인 컨테이너에 바로 반영합니다.
+    // JVM 옵션은 컨테이너를 새로 띄워야 하므로, 자동 배포 세팅을 다시 실행해 Jenkinsfile/보조 컨테이너 단계를 재적용할 때 반영됩니다.
+    private void updateRunningContainers(String serverIp, ContainerCapacityPlan plan) {
+        for (ContainerCapacityPlan.Allocation allocation : plan.allocations()) {
+            for (int i = 1; i <= allocation.replicas(); i++) {
+                String containerName = i == 1 ? allocation.containerName() : allocation.containerName() + "-" + i;
+
+                try {
+                    dockerApiClient.updateContainerResources(serverIp, containerName,
+                            allocation.memoryMb() * 1024L * 1024L, Math.round(allocation.cpus() * 1_000_000_000L));
+                } catch (Exception e) {
+                    log.warn("컨테이너 자원 제한 반영 실패 (자동 배포 세팅 재실행 시 적용): container={}, reason={}", containerName, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private int jdkMajorVersion(String jdkVersion) {
+        try {
+            return Integer.parseInt(jdkVersion.trim().split("\\.")[0]);
+        } catch (Exception e) {
+            return DEFAULT_JDK_VERSION;
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package org.example.backend.domain.server.service;
 
+import org.example.backend.controller.response.log.HttpsLogPageResponse;
 import org.example.backend.controller.response.log.HttpsLogResponse;
 import org.example.backend.domain.server.entity.HttpsLog;
+import org.example.backend.domain.server.log.HttpsLogChunkWriter;
 
 import java.util.List;
 
 public interface HttpsLogService {
     void saveLog(Long projectId, String stepName, String logContent, String status);
+    HttpsLog startLog(Long projectId, String stepName);
+    HttpsLogChunkWriter openWriter(Long logId);
+    void finishLog(Long logId, String status, long totalBytes);
     List<HttpsLogResponse> getLogs(Long projectId, String accessToken);
+    HttpsLogPageResponse getLogPage(Long logId, long offset, int limit, String accessToken);
     List<HttpsLog> getLogsByProjectId(Long projectId);
 }
@@ -2,27 +2,43 @@ package org.example.backend.domain.server.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.backend.common.auth.ProjectAccessValidator;
-import org.example.backend.common.session.RedisSessionManager;
-import org.example.backend.common.session.dto.SessionInfoDto;
+import org.example.backend.controller.response.log.HttpsLogPageResponse;
 import org.example.backend.controller.response.log.HttpsLogResponse;
 import org.example.backend.domain.server.entity.HttpsLog;
+import org.example.backend.domain.server.entity.HttpsLogChunk;
+import org.example.backend.domain.server.log.HttpsLogChunkCodec;
+import org.example.backend.domain.server.log.HttpsLogChunkWriter;
+import org.example.backend.domain.server.repository.HttpsLogChunkRepository;
 import org.example.backend.domain.server.repository.HttpsLogRepository;
-import org.example.backend.domain.userproject.repository.UserProjectRepository;
 import org.example.backend.global.exception.BusinessException;
 import org.example.backend.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class HttpsLogServiceImpl implements HttpsLogService{
 
+    private static final String RUNNING = "RUNNING";
+    private static final int MAX_PAGE_BYTES = 1024 * 1024;
+
     private final HttpsLogRepository httpsLogRepository;
+    private final HttpsLogChunkRepository httpsLogChunkRepository;
     private final ProjectAccessValidator projectAccessValidator;
 
+    @Value("${https-log.chunk-bytes:65536}")
+    private int chunkBytes;
+
+    @Value("${https-log.preview-bytes:4096}")
+    private int previewBytes;
+
     @Override
     public void saveLog(Long projectId, String stepName, String logContent, String status) {
         httpsLogRepository.save(HttpsLog.builder()
@@ -34,6 +50,30 @@ public class HttpsLogServiceImpl implements HttpsLogService{
                 .build());
     }
 
+    @Override
+    public HttpsLog startLog(Long projectId, String stepName) {
+        return httpsLogRepository.save(HttpsLog.builder()
+                .projectId(projectId)
+                .stepName(stepName)
+                .status(RUNNING)
+                .totalBytes(0L)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    public HttpsLogChunkWriter openWriter(Long logId) {
+        return new HttpsLogChunkWriter(httpsLogChunkRepository, httpsLogRepository, logId, chunkBytes);
+    }
+
+    @Override
+    public void finishLog(Long logId, String status, long totalBytes) {
+        httpsLogRepository.findById(logId).ifPresent(log -> {
+            log.finish(status, totalBytes);
+            httpsLogRepository.save(log);
+        });
+    }
+
     @Override
     public List<HttpsLogResponse> getLogs(Long projectId, String accessToken) {
         projectAccessValidator.validateUserInProject(projectId, accessToken);
@@ -42,10 +82,19 @@ public class HttpsLogServiceImpl implements HttpsLogService{
         List<HttpsLogResponse> response = new ArrayList<>();
         int stepNumber = 1;
         for (HttpsLog log : logs) {
+            // 목록에는 마지막 일부만 담아 로그 크기와 관계없이 응답 크기를 일정하게 유지합니다.
+            long totalBytes = totalBytes(log);
+            long previewFrom = Math.max(0, totalBytes - previewBytes);
+            byte[] preview = readRange(log, previewFrom, totalBytes);
+            int skip = leadingContinuationBytes(preview);
+
             response.add(HttpsLogResponse.builder()
+                    .logId(log.getId())
                     .stepNumber(stepNumber++)
                     .stepName(log.getStepName())
-                    .logContent(log.getLogContent())
+                    .logContent(new String(preview, skip, preview.length - skip, StandardCharsets.UTF_8))
+                    .truncated(previewFrom + skip > 0)
+                    .totalBytes(totalBytes)
                     .status(log.getStatus())
                     .createdAt(log.getCreatedAt())
                     .build());
@@ -54,8 +103,104 @@ public class HttpsLogServiceImpl implements HttpsLogService{
         return response;
     }
 
+    /**
+     * 원문 기준 offset 부터 최대 limit 바이트를 돌려줍니다.
+     * 페이지 경계에서 한글이 잘리지 않도록 UTF-8 문자 단위로 맞추며, 다음 요청은 nextOffset 으로 이어서 합니다.
+     */
+    @Override
+    public HttpsLogPageResponse getLogPage(Long logId, long offset, int limit, String accessToken) {
+        HttpsLog log = httpsLogRepository.findById(logId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.HTTPS_LOG_NOT_FOUND));
+
+        projectAccessValidator.validateUserInProject(log.getProjectId(), accessToken);
+
+        if (offset < 0 || limit <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER);
+        }
+
+        long totalBytes = totalBytes(log);
+        long from = Math.min(offset, totalBytes);
+        long to = Math.min(totalBytes, from + Math.min(limit, MAX_PAGE_BYTES));
+
+        byte[] page = readRange(log, from, to);
+
+        int start = leadingContinuationBytes(page);
+        int end = (to < totalBytes) ? completeCharacterEnd(page) : page.length;
+        if (end < start) {
+            end = start;
+        }
+
+        long nextOffset = from + end;
+
+        return HttpsLogPageResponse.builder()
+                .logId(logId)
+                .offset(from + start)
+                .nextOffset(nextOffset)
+                .totalBytes(totalBytes)
+                .hasMore(nextOffset < totalBytes)
+                .content(new String(page, start, end - start, StandardCharsets.UTF_8))
+                .build();
+    }
+
     @Override
     public List<HttpsLog> getLogsByProjectId(Long projectId) {
         return httpsLogRepository.findByProjectIdOrderByCreatedAtAsc(projectId);
     }
+
+    private long totalBytes(HttpsLog log) {
+        if (log.getLogContent() != null) {
+            return log.getLogContent().getBytes(StandardCharsets.UTF_8).length;
+        }
+        return log.getTotalBytes() == null ? 0 : log.getTotalBytes();
+    }
+
+    // [from, to) 구간의 원문. 겹치는 조각만 읽어서 풉니다.
+    private byte[] readRange(HttpsLog log, long from, long to) {
+        if (from >= to) {
+            return new byte[0];
+        }
+
+        if (log.getLogContent() != null) {
+            byte[] content = log.getLogContent().getBytes(StandardCharsets.UTF_8);
+            return Arrays.copyOfRange(content, (int) from, (int) to);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) (to - from));
+        List<HttpsLogChunk> chunks = httpsLogChunkRepository
+                .findAllByLogIdAndEndOffsetGreaterThanAndStartOffsetLessThanOrderBySeqAsc(log.getId(), from, to);
+
+        for (HttpsLogChunk chunk : chunks) {
+            byte[] raw = HttpsLogChunkCodec.decompress(chunk.getData(), (int) (chunk.getEndOffset() - chunk.getStartOffset()));
+            int sliceStart = (int) (Math.max(from, chunk.getStartOffset()) - chunk.getStartOffset());
+            int sliceEnd = (int) (Math.min(to, chunk.getEndOffset()) - chunk.getStartOffset());
+            out.write(raw, sliceStart, sliceEnd - sliceStart);
+        }
+
+        return out.toByteArray();
+    }
+
+    // 앞쪽에 잘린 문자의 나머지 바이트(10xxxxxx) 수
+    private int leadingContinuationBytes(byte[] bytes) {
+        int count = 0;
+        while (count < bytes.length && (bytes[count] & 0xC0) == 0x80) {
+            count++;
+        }
+        return count;
+    }
+
+    // 마지막 문자가 잘렸으면 그 문자 시작 위치, 아니면 배열 끝
+    private int completeCharacterEnd(byte[] bytes) {
+        int lead = bytes.length - 1;
+        while (lead >= 0 && (bytes[lead] & 0xC0) == 0x80) {
+            lead--;
+        }
+        if (lead < 0) {
+            return bytes.length;
+        }
+
+        int b = bytes[lead] & 0xFF;
+        int expected = (b >= 0xF0) ? 4 : (b >= 0xE0) ? 3 : (b >= 0xC0) ? 2 : 1;
+
+        return (bytes.length - lead >= expected) ? bytes.length : lead;
+    }
 }
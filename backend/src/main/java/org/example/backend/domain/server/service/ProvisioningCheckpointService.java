@@ -0,0 +1,7 @@
+package org.example.backend.domain.server.service;
+
+import org.example.backend.domain.server.provisioning.ProvisioningCheckpointStore;
+
+public interface ProvisioningCheckpointService {
+    ProvisioningCheckpointStore forProject(Long projectId);
+}
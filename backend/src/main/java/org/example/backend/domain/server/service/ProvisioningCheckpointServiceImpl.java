@@ -0,0 +1,40 @@
+package org.example.backend.domain.server.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.server.entity.ProvisioningCheckpoint;
+import org.example.backend.domain.server.provisioning.ProvisioningCheckpointStore;
+import org.example.backend.domain.server.repository.ProvisioningCheckpointRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class ProvisioningCheckpointServiceImpl implements ProvisioningCheckpointService {
+
+    private final ProvisioningCheckpointRepository provisioningCheckpointRepository;
+
+    @Override
+    public ProvisioningCheckpointStore forProject(Long projectId) {
+        return new ProvisioningCheckpointStore() {
+            @Override
+            public Optional<String> findInputHash(String stepName) {
+                return provisioningCheckpointRepository.findByProjectIdAndStepName(projectId, stepName)
+                        .map(ProvisioningCheckpoint::getInputHash);
+            }
+
+            @Override
+            public void save(String stepName, String inputHash) {
+                ProvisioningCheckpoint checkpoint = provisioningCheckpointRepository.findByProjectIdAndStepName(projectId, stepName)
+                        .orElseGet(() -> ProvisioningCheckpoint.builder()
+                                .projectId(projectId)
+                                .stepName(stepName)
+                                .build());
+
+                checkpoint.complete(inputHash);
+                provisioningCheckpointRepository.save(checkpoint);
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.backend.domain.server.service;
+
+import org.example.backend.controller.response.server.ProvisioningBatchResponse;
+import org.example.backend.controller.response.server.ProvisioningJobResponse;
+import org.example.backend.controller.response.server.ProvisioningStepStatsResponse;
+import org.example.backend.controller.response.server.ProvisioningStepTimelineResponse;
+import org.example.backend.domain.project.entity.Project;
+import org.example.backend.domain.server.enums.ProvisioningJobType;
+import org.example.backend.global.exception.ErrorCode;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+public interface ProvisioningJobService {
+    ProvisioningJobResponse submit(Project project, ProvisioningJobType jobType, Runnable task);
+
+    ProvisioningJobResponse submit(Project project, ProvisioningJobType jobType, String batchId, Runnable task);
+
+    ProvisioningJobResponse reject(Long projectId, ProvisioningJobType jobType, String batchId, ErrorCode errorCode);
+
+    ProvisioningJobResponse getJob(Long jobId, String accessToken);
+
+    List<ProvisioningJobResponse> getJobs(Long projectId, String accessToken);
+
+    ProvisioningBatchResponse getBatch(String batchId, String accessToken);
+
+    SseEmitter streamBatch(String batchId, String accessToken);
+
+    List<ProvisioningStepTimelineResponse> getJobTimeline(Long jobId, String accessToken);
+
+    List<ProvisioningStepStatsResponse> getStepStats(Long projectId, int days, String accessToken);
+}
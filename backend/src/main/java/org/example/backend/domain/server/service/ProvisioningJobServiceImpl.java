@@ -0,0 +1,407 @@
+package org.example.backend.domain.server.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.common.auth.ProjectAccessValidator;
+import org.example.backend.controller.response.server.ProvisioningBatchResponse;
+import org.example.backend.controller.response.server.ProvisioningJobResponse;
+import org.example.backend.controller.response.server.ProvisioningStepStatsResponse;
+import org.example.backend.controller.response.server.ProvisioningStepTimelineResponse;
+import org.example.backend.domain.project.entity.Project;
+import org.example.backend.domain.server.entity.ProvisioningJob;
+import org.example.backend.domain.server.enums.ProvisioningJobStatus;
+import org.example.backend.domain.server.enums.ProvisioningJobType;
+import org.example.backend.domain.server.enums.ProvisioningStepOutcome;
+import org.example.backend.domain.server.provisioning.ProvisioningRun;
+import org.example.backend.domain.server.provisioning.ProvisioningStepTimer;
+import org.example.backend.domain.server.repository.ProvisioningJobRepository;
+import org.example.backend.domain.server.repository.ProvisioningStepTimelineRepository;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 자동 배포 / HTTPS 전환 같은 장시간 SSH 작업을 요청 스레드와 분리해 실행하는 작업 엔진.
+ * - 워커 수와 대기열 크기가 고정된 풀에서 실행되어 동시 SSH 작업 수가 제한됩니다.
+ *   대기 작업 수는 같은 서버의 앞선 작업 뒤에 연결되어 아직 풀 대기열에 들어가지 않은 작업까지 포함해 제한합니다.
+ *   일괄 요청은 자리가 없으면 거절하지 않고 보관했다가 자리가 나는 대로 넣습니다.
+ * - 프로젝트당 대기/실행 중인 작업은 하나이며, provisioning_jobs 의 유니크 제약으로 동시 요청에서도 보장됩니다.
+ * - 같은 서버(IP)를 대상으로 하는 작업은 앞선 작업이 끝난 뒤에 순서대로 실행됩니다.
+ * - 작업 상태/단계/진행률은 provisioning_jobs 테이블에 기록되어 조회할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProvisioningJobServiceImpl implements ProvisioningJobService {
+
+    private static final long BATCH_STREAM_TIMEOUT_MILLIS = 60 * 60 * 1000L;
+
+    private static final List<ProvisioningJobStatus> ACTIVE_STATUSES = List.of(ProvisioningJobStatus.QUEUED, ProvisioningJobStatus.RUNNING);
+
+    private final ProvisioningJobRepository provisioningJobRepository;
+    private final ProjectAccessValidator projectAccessValidator;
+    private final ProvisioningStepTimer provisioningStepTimer;
+    private final ProvisioningStepTimelineRepository provisioningStepTimelineRepository;
+
+    @Value("${provisioning.worker.pool-size:4}")
+    private int poolSize;
+
+    @Value("${provisioning.worker.queue-capacity:50}")
+    private int queueCapacity;
+
+    // 일괄 요청에서 워커 풀 대기열에 자리가 없을 때 거절하지 않고 보관해 둘 작업 수. 이를 넘는 항목만 QUEUE_FULL 로 거절합니다.
+    @Value("${provisioning.batch.overflow-capacity:200}")
+    private int batchOverflowCapacity;
+
+    @Value("${provisioning.batch.progress-interval-millis:2000}")
+    private long batchProgressIntervalMillis;
+
+    // 단계 통계를 계산할 최대 기간(일) / 최근 기록부터 읽을 최대 행 수
+    @Value("${provisioning.step-stats.max-days:90}")
+    private int stepStatsMaxDays;
+
+    @Value("${provisioning.step-stats.max-samples:50000}")
+    private int stepStatsMaxSamples;
+
+    private ThreadPoolExecutor workerPool;
+
+    // 일괄 작업 진행 상황 SSE 전송용
+    private final ScheduledExecutorService progressTicker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("provisioning-progress-"));
+
+    // 서버 IP 별 마지막 작업. 다음 작업은 이 작업이 끝난 뒤 워커 풀에 들어갑니다.
+    private final Map<String, CompletableFuture<Void>> hostQueues = new ConcurrentHashMap<>();
+
+    // 등록됐지만 아직 워커에서 시작되지 않은 작업 수 (풀 대기열 + 서버별 대기열)
+    private final AtomicInteger pendingJobs = new AtomicInteger();
+
+    // 대기 슬롯이 없어 보관 중인 일괄 작업. 앞선 작업이 시작되어 슬롯이 나면 등록 순서대로 대기열에 넣습니다.
+    private BlockingQueue<DeferredJob> batchOverflow;
+
+    private record DeferredJob(ProvisioningRun run, String host, Runnable task) {
+    }
+
+    @PostConstruct
+    void initWorkerPool() {
+        workerPool = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("provisioning-worker-")
+        );
+        workerPool.allowCoreThreadTimeOut(true);
+        batchOverflow = new LinkedBlockingQueue<>(Math.max(1, batchOverflowCapacity));
+    }
+
+    @PreDestroy
+    void shutdownWorkerPool() {
+        batchOverflow.clear();
+        workerPool.shutdownNow();
+        progressTicker.shutdownNow();
+    }
+
+    /**
+     * 서버 재시작 시점에 끝나지 않은 작업은 더 이상 이어서 실행할 수 없으므로 실패로 정리합니다.
+     * (PEM 키는 저장하지 않기 때문에 자동 재시작은 하지 않습니다.)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failOrphanedJobs() {
+        List<ProvisioningJob> orphanedJobs = provisioningJobRepository.findAllByStatusIn(ACTIVE_STATUSES);
+        for (ProvisioningJob job : orphanedJobs) {
+            job.fail(ErrorCode.PROVISIONING_INTERRUPTED.getCode(), ErrorCode.PROVISIONING_INTERRUPTED.getMessage());
+        }
+        provisioningJobRepository.saveAll(orphanedJobs);
+
+        if (!orphanedJobs.isEmpty()) {
+            log.warn("중단된 프로비저닝 작업 {}건을 실패 처리했습니다.", orphanedJobs.size());
+        }
+    }
+
+    @Override
+    public ProvisioningJobResponse submit(Project project, ProvisioningJobType jobType, Runnable task) {
+        return submit(project, jobType, null, task);
+    }
+
+    @Override
+    public ProvisioningJobResponse submit(Project project, ProvisioningJobType jobType, String batchId, Runnable task) {
+        if (provisioningJobRepository.existsByProjectIdAndStatusIn(project.getId(), ACTIVE_STATUSES)) {
+            throw new BusinessException(ErrorCode.PROVISIONING_JOB_ALREADY_RUNNING);
+        }
+
+        boolean slotReserved = reserveQueueSlot();
+        if (!slotReserved && (batchId == null || batchOverflow.remainingCapacity() == 0)) {
+            throw new BusinessException(ErrorCode.PROVISIONING_QUEUE_FULL);
+        }
+
+        ProvisioningJob job;
+        try {
+            job = provisioningJobRepository.saveAndFlush(ProvisioningJob.builder()
+                    .projectId(project.getId())
+                    .activeProjectId(project.getId())
+                    .serverIP(project.getServerIP())
+                    .batchId(batchId)
+                    .jobType(jobType)
+                    .status(ProvisioningJobStatus.QUEUED)
+                    .progress(0)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 위 확인과 저장 사이에 같은 프로젝트의 작업이 먼저 등록된 경우
+            releaseQueueSlot(slotReserved);
+            throw new BusinessException(ErrorCode.PROVISIONING_JOB_ALREADY_RUNNING);
+        } catch (RuntimeException e) {
+            releaseQueueSlot(slotReserved);
+            throw e;
+        }
+
+        ProvisioningRun run = new ProvisioningRun(job.getId(), project.getId(), jobType);
+        if (slotReserved) {
+            enqueue(run, project.getServerIP(), task);
+        } else if (batchOverflow.offer(new DeferredJob(run, project.getServerIP(), task))) {
+            log.info("프로비저닝 대기열이 가득 차 일괄 작업을 보관합니다: jobId={}, batchId={}", job.getId(), batchId);
+            // 확인과 보관 사이에 슬롯이 났을 수 있으므로 바로 한 번 옮겨봅니다.
+            drainBatchOverflow();
+        } else {
+            // 확인 이후 다른 요청이 보관 자리를 먼저 채운 경우
+            updateJob(job.getId(), queued -> queued.fail(ErrorCode.PROVISIONING_QUEUE_FULL.getCode(), ErrorCode.PROVISIONING_QUEUE_FULL.getMessage()));
+            return ProvisioningJobResponse.from(provisioningJobRepository.findById(job.getId()).orElse(job));
+        }
+
+        log.info("프로비저닝 작업 등록: jobId={}, projectId={}, type={}", job.getId(), project.getId(), jobType);
+        return ProvisioningJobResponse.from(job);
+    }
+
+    /**
+     * 등록 단계에서 거절된 요청도 일괄 요청 결과에 프로젝트별로 남도록 실패 작업으로 기록합니다.
+     */
+    @Override
+    public ProvisioningJobResponse reject(Long projectId, ProvisioningJobType jobType, String batchId, ErrorCode errorCode) {
+        ProvisioningJob job = ProvisioningJob.builder()
+                .projectId(projectId)
+                .batchId(batchId)
+                .jobType(jobType)
+                .status(ProvisioningJobStatus.QUEUED)
+                .progress(0)
+                .createdAt(LocalDateTime.now())
+                .build();
+        job.fail(errorCode.getCode(), errorCode.getMessage());
+
+        return ProvisioningJobResponse.from(provisioningJobRepository.save(job));
+    }
+
+    @Override
+    public ProvisioningJobResponse getJob(Long jobId, String accessToken) {
+        ProvisioningJob job = provisioningJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROVISIONING_JOB_NOT_FOUND));
+
+        projectAccessValidator.validateUserInProject(job.getProjectId(), accessToken);
+
+        return ProvisioningJobResponse.from(job);
+    }
+
+    @Override
+    public List<ProvisioningJobResponse> getJobs(Long projectId, String accessToken) {
+        projectAccessValidator.validateUserInProject(projectId, accessToken);
+
+        return provisioningJobRepository.findTop20ByProjectIdOrderByIdDesc(projectId).stream()
+                .map(ProvisioningJobResponse::from)
+                .toList();
+    }
+
+    @Override
+    public ProvisioningBatchResponse getBatch(String batchId, String accessToken) {
+        List<ProvisioningJob> jobs = provisioningJobRepository.findAllByBatchIdOrderByIdAsc(batchId);
+        if (jobs.isEmpty()) {
+            throw new BusinessException(ErrorCode.PROVISIONING_JOB_NOT_FOUND);
+        }
+
+        jobs.stream()
+                .map(ProvisioningJob::getProjectId)
+                .distinct()
+                .forEach(projectId -> projectAccessValidator.validateUserInProject(projectId, accessToken));
+
+        return toBatchResponse(batchId, jobs);
+    }
+
+    /**
+     * 일괄 작업 진행 상황을 주기적으로 SSE 로 내려주고, 모든 작업이 끝나면 스트림을 닫습니다.
+     */
+    @Override
+    public SseEmitter streamBatch(String batchId, String accessToken) {
+        getBatch(batchId, accessToken);
+
+        SseEmitter emitter = new SseEmitter(BATCH_STREAM_TIMEOUT_MILLIS);
+
+        ScheduledFuture<?> ticker = progressTicker.scheduleWithFixedDelay(() -> {
+            try {
+                ProvisioningBatchResponse snapshot = toBatchResponse(batchId, provisioningJobRepository.findAllByBatchIdOrderByIdAsc(batchId));
+                emitter.send(SseEmitter.event().name("progress").data(snapshot));
+
+                if (snapshot.isFinished()) {
+                    emitter.complete();
+                }
+            } catch (Exception e) {
+                emitter.completeWithError(e);
+            }
+        }, 0, batchProgressIntervalMillis, TimeUnit.MILLISECONDS);
+
+        emitter.onCompletion(() -> ticker.cancel(false));
+        emitter.onTimeout(() -> ticker.cancel(false));
+        emitter.onError(error -> ticker.cancel(false));
+
+        return emitter;
+    }
+
+    @Override
+    public List<ProvisioningStepTimelineResponse> getJobTimeline(Long jobId, String accessToken) {
+        ProvisioningJob job = provisioningJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROVISIONING_JOB_NOT_FOUND));
+
+        projectAccessValidator.validateUserInProject(job.getProjectId(), accessToken);
+
+        return provisioningStepTimelineRepository.findAllByJobIdOrderByStartedAtAsc(jobId).stream()
+                .map(ProvisioningStepTimelineResponse::from)
+                .toList();
+    }
+
+    /**
+     * 최근 days 일 동안 프로젝트에서 성공한 단계의 소요 시간 백분위를 계산합니다. 프로젝트 멤버만 조회할 수 있습니다.
+     * 기간은 max-days 로 제한하고, 그 안에서도 최근 max-samples 건만 표본으로 사용합니다.
+     * 오래 걸리는 단계부터 보이도록 p95 내림차순으로 정렬합니다.
+     */
+    @Override
+    public List<ProvisioningStepStatsResponse> getStepStats(Long projectId, int days, String accessToken) {
+        projectAccessValidator.validateUserInProject(projectId, accessToken);
+
+        int window = Math.max(1, Math.min(days, stepStatsMaxDays));
+        List<Object[]> rows = provisioningStepTimelineRepository.findRecentDurations(
+                projectId, ProvisioningStepOutcome.SUCCEEDED, LocalDateTime.now().minusDays(window), PageRequest.of(0, stepStatsMaxSamples));
+
+        Map<ProvisioningJobType, Map<String, List<Long>>> durations = new EnumMap<>(ProvisioningJobType.class);
+        for (Object[] row : rows) {
+            durations.computeIfAbsent((ProvisioningJobType) row[0], type -> new HashMap<>())
+                    .computeIfAbsent((String) row[1], step -> new ArrayList<>())
+                    .add((Long) row[2]);
+        }
+
+        List<ProvisioningStepStatsResponse> stats = new ArrayList<>();
+        durations.forEach((jobType, byStep) -> byStep.forEach((stepName, values) -> {
+            Collections.sort(values);
+            stats.add(ProvisioningStepStatsResponse.of(jobType, stepName, values));
+        }));
+
+        stats.sort(Comparator.comparingLong(ProvisioningStepStatsResponse::getP95Millis).reversed());
+        return stats;
+    }
+
+    private ProvisioningBatchResponse toBatchResponse(String batchId, List<ProvisioningJob> jobs) {
+        return ProvisioningBatchResponse.from(batchId, jobs.stream()
+                .map(ProvisioningJobResponse::from)
+                .toList());
+    }
+
+    private boolean reserveQueueSlot() {
+        while (true) {
+            int pending = pendingJobs.get();
+            if (pending >= queueCapacity) {
+                return false;
+            }
+            if (pendingJobs.compareAndSet(pending, pending + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void releaseQueueSlot(boolean reserved) {
+        if (reserved) {
+            pendingJobs.decrementAndGet();
+        }
+    }
+
+    private void drainBatchOverflow() {
+        while (!batchOverflow.isEmpty() && reserveQueueSlot()) {
+            DeferredJob next = batchOverflow.poll();
+            if (next == null) {
+                pendingJobs.decrementAndGet();
+                return;
+            }
+            enqueue(next.run(), next.host(), next.task());
+        }
+    }
+
+    private void enqueue(ProvisioningRun run, String host, Runnable task) {
+        Long jobId = run.jobId();
+
+        // 시작되거나 거부될 때 한 번만 대기 슬롯을 돌려줍니다.
+        AtomicBoolean slotReleased = new AtomicBoolean();
+        Runnable releaseSlot = () -> {
+            if (slotReleased.compareAndSet(false, true)) {
+                pendingJobs.decrementAndGet();
+                drainBatchOverflow();
+            }
+        };
+
+        CompletableFuture<Void> queued = hostQueues.compute(host, (key, tail) -> {
+            CompletableFuture<Void> previous = (tail == null) ? CompletableFuture.completedFuture(null) : tail;
+
+            return previous
+                    .handle((ignored, error) -> null)
+                    .thenRunAsync(() -> {
+                        releaseSlot.run();
+                        run(run, task);
+                    }, workerPool)
+                    .exceptionally(error -> {
+                        releaseSlot.run();
+                        // 워커 풀 대기열 초과 등으로 실행 자체가 거부된 경우
+                        log.error("프로비저닝 작업 실행 거부: jobId={}", jobId, error);
+                        updateJob(jobId, job -> job.fail(ErrorCode.PROVISIONING_QUEUE_FULL.getCode(), ErrorCode.PROVISIONING_QUEUE_FULL.getMessage()));
+                        return null;
+                    });
+        });
+
+        queued.whenComplete((ignored, error) -> hostQueues.remove(host, queued));
+    }
+
+    private void run(ProvisioningRun run, Runnable task) {
+        Long jobId = run.jobId();
+        updateJob(jobId, ProvisioningJob::start);
+
+        try {
+            provisioningStepTimer.runJob(run, task);
+            updateJob(jobId, ProvisioningJob::succeed);
+            log.info("프로비저닝 작업 완료: jobId={}", jobId);
+
+        } catch (BusinessException e) {
+            ErrorCode errorCode = e.getErrorCode();
+            updateJob(jobId, job -> job.fail(errorCode.getCode(), errorCode.getMessage()));
+            log.error("프로비저닝 작업 실패: jobId={}, code={}", jobId, errorCode.getCode());
+
+        } catch (Exception e) {
+            updateJob(jobId, job -> job.fail(ErrorCode.INTERNAL_SERVER_ERROR.getCode(), e.getMessage()));
+            log.error("프로비저닝 작업 중 예기치 못한 오류: jobId={}", jobId, e);
+        }
+    }
+
+    // 단계 갱신(ServerStatusService)과 덮어쓰지 않도록 항상 최신 상태를 다시 읽어서 반영합니다.
+    private void updateJob(Long jobId, Consumer<ProvisioningJob> change) {
+        provisioningJobRepository.findById(jobId).ifPresent(job -> {
+            change.accept(job);
+            provisioningJobRepository.save(job);
+        });
+    }
+}
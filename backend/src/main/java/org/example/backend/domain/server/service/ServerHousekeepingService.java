@@ -0,0 +1,7 @@
+package org.example.backend.domain.server.service;
+
+import org.example.backend.controller.response.server.ServerHousekeepingResponse;
+
+public interface ServerHousekeepingService {
+    ServerHousekeepingResponse runHousekeeping(Long projectId, String accessToken);
+}
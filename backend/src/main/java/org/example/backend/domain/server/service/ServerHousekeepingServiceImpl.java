@@ -0,0 +1,131 @@
+package org.example.backend.domain.server.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.common.auth.ProjectAccessValidator;
+import org.example.backend.controller.response.server.DockerPruneResponse;
+import org.example.backend.controller.response.server.ServerHousekeepingResponse;
+import org.example.backend.domain.docker.dto.DockerPruneResult;
+import org.example.backend.domain.docker.enums.DockerPruneTarget;
+import org.example.backend.domain.docker.service.DockerApiClient;
+import org.example.backend.domain.project.entity.Project;
+import org.example.backend.domain.project.repository.ProjectRepository;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 배포 서버의 Docker 디스크를 보존 기간에 맞춰 정리합니다.
+ * Jenkins 빌드마다 docker build 로 같은 태그를 덮어써서 이전 이미지가 dangling 으로 남고, BuildKit 캐시도 계속 쌓입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ServerHousekeepingServiceImpl implements ServerHousekeepingService {
+
+    private final DockerApiClient dockerApiClient;
+    private final ProjectAccessValidator projectAccessValidator;
+    private final ProjectRepository projectRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${housekeeping.enabled:false}")
+    private boolean enabled;
+
+    // 보존 기간은 Docker until 필터 형식 (예: 24h). 비워두면 해당 대상은 정리하지 않습니다.
+    @Value("${housekeeping.image-retention:24h}")
+    private String imageRetention;
+
+    @Value("${housekeeping.build-cache-retention:168h}")
+    private String buildCacheRetention;
+
+    // 사용자가 멈춰둔 보조 컨테이너도 지워지므로 기본값은 정리하지 않음
+    @Value("${housekeeping.container-retention:}")
+    private String containerRetention;
+
+    @Override
+    public ServerHousekeepingResponse runHousekeeping(Long projectId, String accessToken) {
+        projectAccessValidator.validateUserInProject(projectId, accessToken);
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND));
+
+        try {
+            return prune(project.getServerIP());
+        } catch (Exception e) {
+            log.warn("도커 정리 실패: server={}, reason={}", project.getServerIP(), e.getMessage());
+            throw new BusinessException(ErrorCode.DOCKER_PRUNE_FAILED);
+        }
+    }
+
+    /**
+     * 자동 배포가 설정된 모든 서버를 정리합니다. 한 서버가 응답하지 않아도 나머지는 계속 진행합니다.
+     */
+    @Scheduled(cron = "${housekeeping.cron:0 0 4 * * *}")
+    public void pruneAllServers() {
+        if (!enabled) {
+            return;
+        }
+
+        // 여러 프로젝트가 같은 서버를 쓸 수 있으므로 서버 단위로 한 번만 정리
+        List<String> serverIps = projectRepository.findAllByAutoDeploymentEnabledTrue().stream()
+                .map(Project::getServerIP)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        for (String serverIp : serverIps) {
+            try {
+                ServerHousekeepingResponse response = prune(serverIp);
+                log.info("도커 정리 완료: server={}, reclaimed={}MB", serverIp, response.getReclaimedBytes() / (1024 * 1024));
+            } catch (Exception e) {
+                log.warn("도커 정리 실패 (다음 주기에 재시도): server={}, reason={}", serverIp, e.getMessage());
+            }
+        }
+    }
+
+    private ServerHousekeepingResponse prune(String serverIp) {
+        // 컨테이너를 먼저 지워야 그 컨테이너가 쓰던 이미지도 같은 주기에 정리됩니다.
+        Map<DockerPruneTarget, String> retentions = new LinkedHashMap<>();
+        retentions.put(DockerPruneTarget.CONTAINERS, containerRetention);
+        retentions.put(DockerPruneTarget.IMAGES, imageRetention);
+        retentions.put(DockerPruneTarget.BUILD_CACHE, buildCacheRetention);
+
+        List<DockerPruneResponse> results = new ArrayList<>();
+        retentions.forEach((target, retention) -> {
+            if (retention == null || retention.isBlank()) {
+                return;
+            }
+
+            DockerPruneResult result = dockerApiClient.prune(serverIp, target, filters(target, retention));
+            DockerPruneResponse response = DockerPruneResponse.of(target, retention, result);
+
+            Counter.builder("housekeeping.reclaimed.bytes")
+                    .baseUnit("bytes")
+                    .tag("target", target.name().toLowerCase())
+                    .register(meterRegistry)
+                    .increment(response.getReclaimedBytes());
+            results.add(response);
+        });
+
+        return ServerHousekeepingResponse.of(serverIp, results, LocalDateTime.now());
+    }
+
+    private Map<String, List<String>> filters(DockerPruneTarget target, String retention) {
+        if (target == DockerPruneTarget.IMAGES) {
+            // 태그가 남아 있는 이미지는 사용자가 다시 쓸 수 있으므로 dangling 이미지만 정리
+            return Map.of("dangling", List.of("true"), "until", List.of(retention));
+        }
+        return Map.of("until", List.of(retention));
+    }
+}
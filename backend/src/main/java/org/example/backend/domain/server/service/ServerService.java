@@ -1,10 +1,16 @@
 package org.example.backend.domain.server.service;
 
 import org.example.backend.controller.request.server.HttpsConvertRequest;
+import org.example.backend.controller.response.server.ProvisioningBatchResponse;
+import org.example.backend.controller.response.server.ProvisioningJobResponse;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 public interface ServerService {
-    void registerDeployment(Long projectId, MultipartFile pemFile, String accessToken);
+    ProvisioningJobResponse registerDeployment(Long projectId, MultipartFile pemFile, String accessToken);
+
+    ProvisioningBatchResponse registerDeployments(List<Long> projectIds, List<MultipartFile> pemFiles, String accessToken);
 
-    void convertHttpToHttps(HttpsConvertRequest request, MultipartFile pemFile, String accessToken);
+    ProvisioningJobResponse convertHttpToHttps(HttpsConvertRequest request, MultipartFile pemFile, String accessToken);
 }
@@ -3,6 +3,9 @@ package org.example.backend.domain.server.service;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.project.entity.Project;
 import org.example.backend.domain.project.enums.ServerStatus;
+import org.example.backend.domain.project.repository.ProjectRepository;
+import org.example.backend.domain.server.enums.ProvisioningJobStatus;
+import org.example.backend.domain.server.repository.ProvisioningJobRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,6 +13,9 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ServerStatusServiceImpl implements ServerStatusService {
 
+    private final ProjectRepository projectRepository;
+    private final ProvisioningJobRepository provisioningJobRepository;
+
     @Override
     @Transactional
     public void updateStatus(Project project, ServerStatus serverStatus) {
@@ -18,11 +24,18 @@ public class ServerStatusServiceImpl implements ServerStatusService {
         }
 
         project.updateAutoDeploymentStatus(serverStatus);
+
+        // 프로비저닝 워커 스레드에서는 project 가 준영속 상태이므로 명시적으로 반영
+        projectRepository.save(project);
+
+        provisioningJobRepository.findFirstByProjectIdAndStatusOrderByIdDesc(project.getId(), ProvisioningJobStatus.RUNNING)
+                .ifPresent(job -> job.updateStep(serverStatus));
     }
 
     @Override
     @Transactional
     public void saveDomiaName(Project project, String domain) {
         project.saveDomainName(domain);
+        projectRepository.save(project);
     }
 }
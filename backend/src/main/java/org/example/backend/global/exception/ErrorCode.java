@@ -10,6 +10,7 @@ public enum ErrorCode {
     INVALID_PARAMETER(HttpStatus.BAD_REQUEST, 1001, "잘못된 파라미터입니다."),
     INVALID_AUTHORIZATION_HEADER(HttpStatus.BAD_REQUEST, 1102, "Authorization 헤더 형식이 잘못되었습니다."),
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, 1103, "지원하지 않는 요청입니다."),
+    BULK_DEPLOYMENT_REQUEST_INVALID(HttpStatus.BAD_REQUEST, 1104, "프로젝트 ID 목록과 PEM 파일 목록의 개수가 일치하지 않습니다."),
 
     // 2xxx: 비즈니스 로직 관련 오류
     BUSINESS_ERROR(HttpStatus.BAD_REQUEST, 2001, "비즈니스 로직 오류가 발생했습니다."),
@@ -58,6 +59,10 @@ public enum ErrorCode {
     FRONT_ENV_NOT_FOUND(HttpStatus.NOT_FOUND, 3236, "bacakendEnvFile 정보를 찾지 못했습니다."),
     REPORT_NOT_FOUND(HttpStatus.NOT_FOUND, 3237, "AI report정보를 찾지 못했습니다."),
     DOCKER_CONTROL_FAILED(HttpStatus.NOT_FOUND, 3238, "도커 컨테이너 제어에 실패했습니다."),
+    PROVISIONING_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, 3239, "프로비저닝 작업 정보를 찾지 못했습니다."),
+    HTTPS_LOG_NOT_FOUND(HttpStatus.NOT_FOUND, 3240, "HTTPS 로그 정보를 찾지 못했습니다."),
+    CAPACITY_PLAN_CHANGED(HttpStatus.CONFLICT, 3241, "미리보기 이후 서버 자원 또는 컨테이너 구성이 바뀌었습니다. 계획을 다시 확인해주세요."),
+    DOCKER_PRUNE_FAILED(HttpStatus.BAD_REQUEST, 3242, "도커 이미지/빌드 캐시 정리에 실패했습니다."),
 
 
     // 4xxx: 인증/권한 관련 오류
@@ -99,6 +104,7 @@ public enum ErrorCode {
     AI_RESPONSE_SERIALIZATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 6029, "AI 응답 변환 과정 에러"),
     AUTO_DEPLOYMENT_SETTING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 6029, "자동 배포 설정 실패"),
     ENVIRONMENT_PARSE_FAILED(HttpStatus.BAD_REQUEST, 6030, "환경변수 형식이 잘못되었습니다."),
+    JENKINS_BUILD_NOT_STARTED(HttpStatus.INTERNAL_SERVER_ERROR, 6031, "대기 중인 Jenkins 빌드가 제한 시간 안에 시작되지 않았습니다."),
 
 
     // 7. 자동배포 세팅 관련
@@ -124,7 +130,15 @@ public enum ErrorCode {
     CREATE_DEFAULT_NGINX_CONF_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 7018, "기본 Nginx 설정 생성에 실패했습니다."),
     RELOAD_NGINX_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 7019, "Nginx 재시작에 실패했습니다."),
     ISSUE_SSL_CERTIFICATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 7020, "SSL 인증서 발급에 실패했습니다."),
-    EDIT_NGINX_CONF_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 7021, "Nginx 설정 수정에 실패했습니다.");
+    EDIT_NGINX_CONF_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 7021, "Nginx 설정 수정에 실패했습니다."),
+
+    // 프로비저닝 작업 관련
+    PROVISIONING_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, 7022, "프로비저닝 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+    PROVISIONING_JOB_ALREADY_RUNNING(HttpStatus.CONFLICT, 7023, "해당 프로젝트의 프로비저닝 작업이 이미 진행 중입니다."),
+    PROVISIONING_INTERRUPTED(HttpStatus.INTERNAL_SERVER_ERROR, 7024, "서버 재시작으로 프로비저닝 작업이 중단되었습니다."),
+    PEM_FILE_READ_FAILED(HttpStatus.BAD_REQUEST, 7025, "PEM 파일을 읽을 수 없습니다."),
+    SSH_CHANNEL_ACQUIRE_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, 7026, "SSH 채널 대기 시간이 초과되었습니다."),
+    INSTALL_BUILD_CACHE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 7027, "빌드 캐시 설치에 실패했습니다.");
 
     private final HttpStatus status;
     private final int code;
@@ -1,43 +1,33 @@
 package org.example.backend.util.log;
 
-import com.jcraft.jsch.*;
-
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-
+import lombok.RequiredArgsConstructor;
+import org.example.backend.common.ssh.SshCommandExecutor;
+import org.example.backend.common.ssh.SshCommandResult;
+import org.example.backend.common.ssh.SshSessionLease;
+import org.example.backend.common.ssh.SshSessionPool;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Component
+@RequiredArgsConstructor
 public class LogUtil {
 
-    public static String getRecentDockerLogs(String ip, String pemPath, String containerName, String sinceDuration) {
-        StringBuilder log = new StringBuilder();
+    private final SshSessionPool sshSessionPool;
+    private final SshCommandExecutor sshCommandExecutor;
 
+    public String getRecentDockerLogs(String ip, String pemPath, String containerName, String sinceDuration) {
         try {
-            JSch jsch = new JSch();
-            jsch.addIdentity(pemPath);
-
-            Session session = jsch.getSession("ubuntu", ip, 22);
-            session.setConfig("StrictHostKeyChecking", "no");
-            session.connect();
-
-            ChannelExec channel = (ChannelExec) session.openChannel("exec");
-            String command = String.format("docker logs --sinceSeconds %s %s", sinceDuration, containerName);
-            channel.setCommand(command);
+            byte[] pemKey = Files.readAllBytes(Path.of(pemPath));
 
-            InputStream input = channel.getInputStream();
-            channel.connect();
-
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(input))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    log.append(line).append("\n");
-                }
+            // 풀에 연결된 세션이 있으면 핸드셰이크 없이 바로 채널만 엽니다.
+            try (SshSessionLease lease = sshSessionPool.acquire(ip, pemKey)) {
+                String command = String.format("docker logs --since %s %s", sinceDuration, containerName);
+                SshCommandResult result = sshCommandExecutor.execute(lease.getSession(), command);
+                return result.output();
             }
 
-            channel.disconnect();
-            session.disconnect();
-
-            return log.toString();
-
         } catch (Exception e) {
             throw new RuntimeException("도커 로그 가져오기 실패", e);
         }
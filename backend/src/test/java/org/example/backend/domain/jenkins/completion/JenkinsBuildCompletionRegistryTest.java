@@ -0,0 +1,116 @@
+package org.example.backend.domain.jenkins.completion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.backend.domain.jenkins.entity.JenkinsInfo;
+import org.example.backend.domain.jenkins.service.JenkinsClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JenkinsBuildCompletionRegistryTest {
+
+    private static final String RUNNING = "{\"building\":true,\"result\":null}";
+    private static final String SUCCEEDED = "{\"building\":false,\"result\":\"SUCCESS\"}";
+
+    private final JenkinsClient jenkinsClient = mock(JenkinsClient.class);
+    private final JenkinsInfo info = JenkinsInfo.builder().projectId(1L).jobName("job").build();
+
+    private final JenkinsBuildCompletionRegistry registry = new JenkinsBuildCompletionRegistry(jenkinsClient, new ObjectMapper());
+
+    @BeforeEach
+    void setUp() {
+        // 정기 폴링은 테스트 중에 돌지 않도록 길게 잡고, 콜백으로만 확인
+        ReflectionTestUtils.setField(registry, "initialPollSeconds", 60L);
+        ReflectionTestUtils.setField(registry, "maxPollSeconds", 60L);
+        ReflectionTestUtils.setField(registry, "maxWaitSeconds", 1800L);
+        ReflectionTestUtils.setField(registry, "executorThreads", 2);
+        ReflectionTestUtils.setField(registry, "executorQueueCapacity", 10);
+        registry.initCompletionExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void callbackBeforeFirstPollConfirmsWithJenkinsImmediately() throws Exception {
+        when(jenkinsClient.fetchBuildInfo(eq(info), startsWith("7/api/json"))).thenReturn(SUCCEEDED);
+
+        CompletableFuture<String> result = registry.await(info, 7);
+        registry.recheck(1L, 7);
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("SUCCESS");
+        verify(jenkinsClient, times(1)).fetchBuildInfo(eq(info), anyString());
+    }
+
+    @Test
+    void callbackWhileStillBuildingKeepsPollingUntilJenkinsReportsResult() throws Exception {
+        // post 단계에서 온 콜백이라 첫 확인에서는 아직 building=true
+        when(jenkinsClient.fetchBuildInfo(eq(info), startsWith("7/api/json"))).thenReturn(RUNNING, SUCCEEDED);
+
+        CompletableFuture<String> result = registry.await(info, 7);
+        registry.recheck(1L, 7);
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("SUCCESS");
+        verify(jenkinsClient, times(2)).fetchBuildInfo(eq(info), anyString());
+    }
+
+    @Test
+    void waitersForSameBuildShareOnePoll() throws Exception {
+        when(jenkinsClient.fetchBuildInfo(eq(info), startsWith("7/api/json"))).thenReturn(SUCCEEDED);
+
+        CompletableFuture<String> first = registry.await(info, 7);
+        CompletableFuture<String> second = registry.await(info, 7);
+        registry.recheck(1L, 7);
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("SUCCESS");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("SUCCESS");
+        verify(jenkinsClient, times(1)).fetchBuildInfo(eq(info), anyString());
+    }
+
+    @Test
+    void callbackAfterTimeoutIsIgnored() {
+        ReflectionTestUtils.setField(registry, "initialPollSeconds", 1L);
+        ReflectionTestUtils.setField(registry, "maxWaitSeconds", 0L);
+        when(jenkinsClient.fetchBuildInfo(eq(info), startsWith("7/api/json"))).thenReturn(RUNNING);
+
+        CompletableFuture<String> result = registry.await(info, 7);
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        // 시간 초과로 대기자가 정리된 뒤의 콜백은 Jenkins 를 다시 호출하지 않습니다.
+        registry.recheck(1L, 7);
+        verify(jenkinsClient, after(1500).times(1)).fetchBuildInfo(eq(info), anyString());
+        assertThat(result).isCompletedExceptionally();
+    }
+
+    @Test
+    void resolvesBuildNumberFromQueueItem() throws Exception {
+        when(jenkinsClient.fetchQueueItem(eq(info), eq(42L), anyString())).thenReturn("{\"cancelled\":false,\"executable\":{\"number\":12}}");
+
+        assertThat(registry.resolveBuildNumber(info, 42L).get(5, TimeUnit.SECONDS)).isEqualTo(12);
+    }
+
+    @Test
+    void cancelledQueueItemFailsResolution() {
+        when(jenkinsClient.fetchQueueItem(eq(info), eq(42L), anyString())).thenReturn("{\"cancelled\":true}");
+
+        assertThatThrownBy(() -> registry.resolveBuildNumber(info, 42L).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+}
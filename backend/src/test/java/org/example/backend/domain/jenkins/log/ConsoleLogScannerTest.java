@@ -0,0 +1,118 @@
+package org.example.backend.domain.jenkins.log;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsoleLogScannerTest {
+
+    private static final String LOG = String.join("\n",
+            "Started by user 관리자",
+            "[Pipeline] { (체크아웃)",
+            "[Pipeline] echo",
+            "저장소를 받아옵니다 🚀",
+            "Cloning repository",
+            "[Pipeline] }",
+            "[Pipeline] { (Build)",
+            "> Task :compileJava FAILED",
+            "ERROR: 빌드 실패",
+            "[Pipeline] }",
+            "Finished: FAILURE");
+
+    private static final byte[] BYTES = LOG.getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void stageOffsetsAreByteOffsetsIntoUtf8Log() {
+        ConsoleLogIndex index = scan(BYTES);
+
+        assertThat(index.totalBytes()).isEqualTo(BYTES.length);
+        assertThat(index.stages()).extracting(ConsoleLogIndex.Stage::name).containsExactly("체크아웃", "Build");
+
+        ConsoleLogIndex.Stage checkout = index.stages().get(0);
+        assertThat(checkout.bodyStart()).isEqualTo(offsetAfterLine("[Pipeline] { (체크아웃)"));
+        assertThat(checkout.bodyEnd()).isEqualTo(offsetOfLine("[Pipeline] { (Build)"));
+        assertThat(slice(checkout)).isEqualTo("[Pipeline] echo\n저장소를 받아옵니다 🚀\nCloning repository\n[Pipeline] }\n");
+        assertThat(checkout.echoes()).containsExactly("저장소를 받아옵니다 🚀");
+        assertThat(checkout.errorCount()).isZero();
+
+        ConsoleLogIndex.Stage build = index.stages().get(1);
+        assertThat(build.bodyEnd()).isEqualTo(BYTES.length);
+        assertThat(slice(build)).startsWith("> Task :compileJava FAILED\nERROR: 빌드 실패\n");
+        assertThat(build.errorCount()).isEqualTo(3);
+    }
+
+    @Test
+    void everyChunkSizeProducesSameIndex() {
+        ConsoleLogIndex expected = scan(BYTES);
+
+        // 1 byte 조각까지 포함하므로 줄바꿈, 마커, 멀티바이트 문자 중간에서 잘리는 경우를 모두 거칩니다.
+        for (int chunkSize = 1; chunkSize <= BYTES.length; chunkSize++) {
+            assertThat(scan(BYTES, chunkSize)).as("chunk size %d", chunkSize).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void splitInsideMultibyteCharacterKeepsStageNameAndEcho() {
+        int stageNameStart = offsetOfLine("[Pipeline] { (체크아웃)") + "[Pipeline] { (".length();
+        int emojiStart = indexOf("🚀".getBytes(StandardCharsets.UTF_8));
+
+        for (int split : List.of(stageNameStart + 1, stageNameStart + 2, emojiStart + 1, emojiStart + 3)) {
+            ConsoleLogScanner scanner = new ConsoleLogScanner();
+            scanner.feed(Arrays.copyOfRange(BYTES, 0, split));
+            scanner.feed(Arrays.copyOfRange(BYTES, split, BYTES.length));
+            ConsoleLogIndex index = scanner.finish();
+
+            assertThat(index.stages().get(0).name()).as("split at %d", split).isEqualTo("체크아웃");
+            assertThat(index.stages().get(0).echoes()).as("split at %d", split).containsExactly("저장소를 받아옵니다 🚀");
+            assertThat(index).isEqualTo(scan(BYTES));
+        }
+    }
+
+    @Test
+    void logWithoutTrailingNewlineEndsLastStageAtTotalBytes() {
+        byte[] bytes = "[Pipeline] { (배포)\n완료".getBytes(StandardCharsets.UTF_8);
+
+        ConsoleLogIndex index = scan(bytes, 3);
+
+        ConsoleLogIndex.Stage stage = index.stages().get(0);
+        assertThat(stage.bodyStart()).isEqualTo("[Pipeline] { (배포)\n".getBytes(StandardCharsets.UTF_8).length);
+        assertThat(stage.bodyEnd()).isEqualTo(bytes.length);
+    }
+
+    private static ConsoleLogIndex scan(byte[] bytes) {
+        return scan(bytes, bytes.length);
+    }
+
+    private static ConsoleLogIndex scan(byte[] bytes, int chunkSize) {
+        ConsoleLogScanner scanner = new ConsoleLogScanner();
+        for (int from = 0; from < bytes.length; from += chunkSize) {
+            scanner.feed(Arrays.copyOfRange(bytes, from, Math.min(bytes.length, from + chunkSize)));
+        }
+        return scanner.finish();
+    }
+
+    private static String slice(ConsoleLogIndex.Stage stage) {
+        return new String(BYTES, (int) stage.bodyStart(), (int) (stage.bodyEnd() - stage.bodyStart()), StandardCharsets.UTF_8);
+    }
+
+    private static int offsetOfLine(String line) {
+        return indexOf((line + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int offsetAfterLine(String line) {
+        return offsetOfLine(line) + (line + "\n").getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static int indexOf(byte[] pattern) {
+        for (int i = 0; i + pattern.length <= BYTES.length; i++) {
+            if (Arrays.equals(BYTES, i, i + pattern.length, pattern, 0, pattern.length)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("not found");
+    }
+}
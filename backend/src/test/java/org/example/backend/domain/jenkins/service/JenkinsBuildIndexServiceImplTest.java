@@ -0,0 +1,129 @@
+package org.example.backend.domain.jenkins.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.backend.controller.response.jenkins.JenkinsBuildPageResponse;
+import org.example.backend.domain.jenkins.entity.JenkinsBuildRecord;
+import org.example.backend.domain.jenkins.entity.JenkinsInfo;
+import org.example.backend.domain.jenkins.repository.JenkinsBuildRecordRepository;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JenkinsBuildIndexServiceImplTest {
+
+    private static final long PROJECT_ID = 1L;
+
+    private final JenkinsClient jenkinsClient = mock(JenkinsClient.class);
+    private final JenkinsBuildRecordRepository repository = mock(JenkinsBuildRecordRepository.class);
+    private final JenkinsInfo info = JenkinsInfo.builder().projectId(PROJECT_ID).jobName("job").build();
+
+    private final JenkinsBuildIndexServiceImpl service = new JenkinsBuildIndexServiceImpl(
+            jenkinsClient, repository, new ObjectMapper(), new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "syncIntervalSeconds", 30L);
+        ReflectionTestUtils.setField(service, "buildingTimeoutMinutes", 120L);
+    }
+
+    @Test
+    void staleBuildingRecordDoesNotPinSyncFloorAndIsRecheckedAlone() {
+        long threeHoursAgo = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(3);
+        JenkinsBuildRecord stale = record(3, null, true, threeHoursAgo);
+
+        when(jenkinsClient.fetchBuildInfo(info, "api/json?tree=firstBuild[number],lastBuild[number]"))
+                .thenReturn("{\"firstBuild\":{\"number\":1},\"lastBuild\":{\"number\":7}}");
+        when(jenkinsClient.fetchBuildInfo(eq(info), startsWith("3/api/json")))
+                .thenReturn("{\"number\":3,\"result\":\"ABORTED\",\"building\":false,\"timestamp\":" + threeHoursAgo + "}");
+        when(jenkinsClient.fetchBuildRange(eq(info), anyString(), eq(0), eq(2)))
+                .thenReturn("{\"builds\":[" + build(7, null, true) + "," + build(6, "SUCCESS", false) + "]}");
+
+        when(repository.findTopByProjectIdOrderByBuildNumberDesc(PROJECT_ID)).thenReturn(Optional.of(record(5, "SUCCESS", false, threeHoursAgo)));
+        when(repository.findAllByProjectIdAndBuildingTrue(PROJECT_ID)).thenReturn(List.of(stale));
+        when(repository.findAllByProjectIdAndBuildNumberGreaterThanEqual(PROJECT_ID, 6)).thenReturn(List.of());
+        when(repository.findByProjectIdAndBuildNumber(PROJECT_ID, 3)).thenReturn(Optional.of(stale));
+
+        JenkinsBuildPageResponse page = service.getBuildPage(info, 0, 10);
+
+        // floor 는 #3 이 아니라 마지막으로 받은 #5 다음부터이므로 최신 두 건만 받아옵니다.
+        verify(jenkinsClient).fetchBuildRange(eq(info), anyString(), eq(0), eq(2));
+        verify(jenkinsClient, never()).fetchBuildRange(eq(info), anyString(), eq(0), eq(5));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<JenkinsBuildRecord>> created = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(created.capture());
+        assertThat(created.getValue()).extracting(JenkinsBuildRecord::getBuildNumber).containsExactly(7, 6);
+
+        assertThat(stale.isBuilding()).isFalse();
+        assertThat(stale.getResult()).isEqualTo("ABORTED");
+        assertThat(page.isStale()).isFalse();
+    }
+
+    @Test
+    void buildsMissingFromJenkinsAboveFloorAreRemoved() {
+        long now = System.currentTimeMillis();
+        JenkinsBuildRecord running = record(6, null, true, now);
+        JenkinsBuildRecord discarded = record(7, null, true, now);
+
+        when(jenkinsClient.fetchBuildInfo(info, "api/json?tree=firstBuild[number],lastBuild[number]"))
+                .thenReturn("{\"firstBuild\":{\"number\":2},\"lastBuild\":{\"number\":8}}");
+        when(jenkinsClient.fetchBuildRange(eq(info), anyString(), eq(0), eq(3)))
+                .thenReturn("{\"builds\":[" + build(8, null, true) + "," + build(6, "SUCCESS", false) + "]}");
+
+        when(repository.findTopByProjectIdOrderByBuildNumberDesc(PROJECT_ID)).thenReturn(Optional.of(discarded));
+        when(repository.findAllByProjectIdAndBuildingTrue(PROJECT_ID)).thenReturn(List.of(running, discarded));
+        when(repository.findAllByProjectIdAndBuildNumberGreaterThanEqual(PROJECT_ID, 6)).thenReturn(List.of(running, discarded));
+
+        service.getBuildPage(info, 0, 10);
+
+        verify(repository).deleteAllByProjectIdAndBuildNumberLessThan(PROJECT_ID, 2);
+        verify(repository).deleteAll(argThat(records -> {
+            List<JenkinsBuildRecord> list = new ArrayList<>();
+            records.forEach(list::add);
+            return list.size() == 1 && list.get(0) == discarded;
+        }));
+        assertThat(running.getResult()).isEqualTo("SUCCESS");
+    }
+
+    @Test
+    void failedSyncServesExistingIndexMarkedStale() {
+        when(jenkinsClient.fetchBuildInfo(eq(info), anyString())).thenThrow(new BusinessException(ErrorCode.JENKINS_REQUEST_FAILED));
+        when(repository.findByProjectIdOrderByBuildNumberDesc(eq(PROJECT_ID), any()))
+                .thenReturn(List.of(record(5, "SUCCESS", false, System.currentTimeMillis())));
+
+        JenkinsBuildPageResponse page = service.getBuildPage(info, 0, 10);
+
+        assertThat(page.isStale()).isTrue();
+        assertThat(page.getBuilds()).extracting("buildNumber").containsExactly(5);
+        verify(repository, never()).saveAll(any());
+    }
+
+    private static JenkinsBuildRecord record(int buildNumber, String result, boolean building, long startedAt) {
+        return JenkinsBuildRecord.builder()
+                .projectId(PROJECT_ID)
+                .buildNumber(buildNumber)
+                .result(result)
+                .building(building)
+                .startedAt(startedAt)
+                .build();
+    }
+
+    private static String build(int number, String result, boolean building) {
+        return "{\"number\":" + number + ",\"result\":" + (result == null ? "null" : "\"" + result + "\"")
+                + ",\"building\":" + building + ",\"timestamp\":" + System.currentTimeMillis() + "}";
+    }
+}
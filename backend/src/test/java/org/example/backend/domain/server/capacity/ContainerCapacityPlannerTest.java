@@ -0,0 +1,97 @@
+package org.example.backend.domain.server.capacity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContainerCapacityPlannerTest {
+
+    private final ContainerCapacityPlanner planner = new ContainerCapacityPlanner();
+
+    @Test
+    void jenkinsReservationIsClampedBetweenMinAndMax() {
+        List<ContainerDemand> demands = List.of(new ContainerDemand("app", ContainerWorkload.SPRING, 1));
+
+        // 2GB 의 1/5 는 409MB 라 최소 512MB 로, 16GB 의 1/5 는 3276MB 라 최대 2048MB 로 맞춥니다.
+        assertThat(planner.plan(2, 2048, demands, 17).reservedMemoryMb()).isEqualTo(512 + 512);
+        assertThat(planner.plan(2, 16384, demands, 17).reservedMemoryMb()).isEqualTo(512 + 2048);
+    }
+
+    @Test
+    void memoryIsSplitByWeightAndRoundedDownToUnit() {
+        ContainerCapacityPlan plan = planner.plan(4, 8192, List.of(
+                new ContainerDemand("app", ContainerWorkload.SPRING, 1),
+                new ContainerDemand("mysql", ContainerWorkload.DATABASE, 1)), 21);
+
+        // 사용 가능 메모리 8192 - (512 + 1638) = 6042MB 를 4:3 으로 나누고 64MB 단위로 내림
+        assertThat(plan.reservedMemoryMb()).isEqualTo(2150);
+        assertThat(plan.allocations()).extracting(ContainerCapacityPlan.Allocation::memoryMb).containsExactly(3392, 2560);
+        assertThat(plan.allocations()).allSatisfy(allocation -> assertThat(allocation.memoryMb() % 64).isZero());
+        assertThat(plan.overcommitted()).isFalse();
+    }
+
+    @Test
+    void memoryNeverFallsBelowWorkloadMinimumEvenWhenHostIsTooSmall() {
+        ContainerCapacityPlan plan = planner.plan(1, 1024, List.of(
+                new ContainerDemand("app", ContainerWorkload.SPRING, 1),
+                new ContainerDemand("redis", ContainerWorkload.CACHE, 1),
+                new ContainerDemand("mysql", ContainerWorkload.DATABASE, 1)), 17);
+
+        // 예약분을 빼면 남는 메모리가 없으므로 모두 최소 메모리만 받고, 초과 배정으로 표시됩니다.
+        assertThat(plan.allocations()).extracting(ContainerCapacityPlan.Allocation::memoryMb)
+                .containsExactly(ContainerWorkload.SPRING.getMinMemoryMb(),
+                        ContainerWorkload.CACHE.getMinMemoryMb(),
+                        ContainerWorkload.DATABASE.getMinMemoryMb());
+        assertThat(plan.overcommitted()).isTrue();
+    }
+
+    @Test
+    void cpusAreClampedBetweenMinimumAndHostCpuCount() {
+        ContainerCapacityPlan single = planner.plan(4, 8192, List.of(new ContainerDemand("app", ContainerWorkload.SPRING, 1)), 17);
+        // 몫(4) 의 2배까지 허용하지만 호스트 CPU 수를 넘지는 않습니다.
+        assertThat(single.allocations().get(0).cpus()).isEqualTo(4.0);
+
+        ContainerCapacityPlan crowded = planner.plan(1, 4096, List.of(
+                new ContainerDemand("app", ContainerWorkload.SPRING, 1),
+                new ContainerDemand("redis", ContainerWorkload.CACHE, 1),
+                new ContainerDemand("mysql", ContainerWorkload.DATABASE, 1)), 17);
+        // 캐시 몫은 1/8 * 2 = 0.25 CPU 이지만 최소 0.5 CPU 를 줍니다.
+        assertThat(crowded.allocations()).extracting(ContainerCapacityPlan.Allocation::cpus).containsExactly(1.0, 0.5, 0.8);
+    }
+
+    @Test
+    void missingCpuCountIsTreatedAsSingleCpu() {
+        ContainerCapacityPlan plan = planner.plan(0, 4096, List.of(new ContainerDemand("app", ContainerWorkload.SPRING, 1)), 17);
+
+        assertThat(plan.cpuCount()).isEqualTo(1);
+        assertThat(plan.allocations().get(0).cpus()).isEqualTo(1.0);
+    }
+
+    @Test
+    void replicasShareTheWeightOfTheirWorkload() {
+        ContainerCapacityPlan plan = planner.plan(4, 8192, List.of(
+                new ContainerDemand("app-1", ContainerWorkload.SPRING, 2),
+                new ContainerDemand("mysql", ContainerWorkload.DATABASE, 1)), 17);
+
+        // 가중치 합은 4 * 2 + 3 = 11 이고, 레플리카마다 4/11 몫을 받습니다.
+        assertThat(plan.allocations()).extracting(ContainerCapacityPlan.Allocation::memoryMb).containsExactly(2176, 1600);
+        assertThat(plan.plannedMemoryMb()).isLessThanOrEqualTo(plan.memoryTotalMb() - plan.reservedMemoryMb());
+    }
+
+    @Test
+    void jvmOptionsFollowContainerLimitAndJdkVersion() {
+        ContainerCapacityPlan small = planner.plan(1, 2048, List.of(new ContainerDemand("app", ContainerWorkload.SPRING, 1)), 17);
+        assertThat(small.allocations().get(0).jvmOptions())
+                .contains("-XX:MaxRAMPercentage=75.0", "-XX:+UseSerialGC", "-Xshare:auto")
+                .doesNotContain("AutoCreateSharedArchive");
+
+        ContainerCapacityPlan large = planner.plan(4, 8192, List.of(new ContainerDemand("app", ContainerWorkload.SPRING, 1)), 21);
+        assertThat(large.allocations().get(0).jvmOptions())
+                .contains("-XX:+UseG1GC", "-XX:+AutoCreateSharedArchive");
+
+        ContainerCapacityPlan database = planner.plan(4, 8192, List.of(new ContainerDemand("mysql", ContainerWorkload.DATABASE, 1)), 21);
+        assertThat(database.allocations().get(0).jvmOptions()).isNull();
+    }
+}
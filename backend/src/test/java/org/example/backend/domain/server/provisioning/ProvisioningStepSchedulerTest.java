@@ -0,0 +1,181 @@
+package org.example.backend.domain.server.provisioning;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.backend.domain.project.enums.ServerStatus;
+import org.example.backend.domain.server.repository.ProvisioningStepTimelineRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ProvisioningStepSchedulerTest {
+
+    private final ProvisioningStepScheduler scheduler =
+            new ProvisioningStepScheduler(new ProvisioningStepTimer(new SimpleMeterRegistry(), mock(ProvisioningStepTimelineRepository.class)));
+
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private final MapCheckpointStore checkpoints = new MapCheckpointStore();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void runsDependenciesBeforeDependents() {
+        parallelism(3);
+
+        scheduler.run(List.of(
+                step("C").dependsOn("B").build(),
+                step("B").dependsOn("A").build(),
+                step("A").build()
+        ), checkpoints, status -> {});
+
+        assertThat(executed).containsExactly("A", "B", "C");
+    }
+
+    @Test
+    void startsReadyStepsInDeclarationOrder() {
+        parallelism(1);
+
+        scheduler.run(List.of(step("X").build(), step("Y").build(), step("Z").build()), checkpoints, status -> {});
+
+        assertThat(executed).containsExactly("X", "Y", "Z");
+    }
+
+    @Test
+    void stepsSharingALockNeverOverlap() {
+        parallelism(3);
+        AtomicInteger holders = new AtomicInteger();
+        AtomicInteger maxHolders = new AtomicInteger();
+        Runnable locked = () -> {
+            maxHolders.accumulateAndGet(holders.incrementAndGet(), Math::max);
+            sleep(50);
+            holders.decrementAndGet();
+        };
+
+        scheduler.run(List.of(
+                ProvisioningStep.builder().name("A").lock(ProvisioningLocks.DPKG).action(locked).build(),
+                ProvisioningStep.builder().name("B").lock(ProvisioningLocks.DPKG).action(locked).build(),
+                ProvisioningStep.builder().name("C").lock(ProvisioningLocks.DPKG).action(locked).build()
+        ), checkpoints, status -> {});
+
+        assertThat(maxHolders.get()).isEqualTo(1);
+    }
+
+    @Test
+    void skipsStepWhenCheckpointMatchesAndProbePasses() {
+        parallelism(3);
+        checkpoints.save("A", "h1");
+
+        scheduler.run(List.of(step("A").inputHash("h1").probe(() -> true).build()), checkpoints, status -> {});
+
+        assertThat(executed).isEmpty();
+    }
+
+    @Test
+    void rerunsStepWhenInputHashChangedOrProbeFails() {
+        parallelism(3);
+        checkpoints.save("A", "old");
+        checkpoints.save("B", "h1");
+
+        scheduler.run(List.of(
+                step("A").inputHash("new").probe(() -> true).build(),
+                step("B").inputHash("h1").probe(() -> false).build()
+        ), checkpoints, status -> {});
+
+        assertThat(executed).containsExactlyInAnyOrder("A", "B");
+        assertThat(checkpoints.findInputHash("A")).contains("new");
+    }
+
+    @Test
+    void upstreamRerunDoesNotForceDownstreamRerun() {
+        parallelism(3);
+        checkpoints.save("UPDATE_PACKAGE", "h");
+        checkpoints.save("CREATE_JENKINS_PIPELINE", "h");
+
+        // 앞 단계는 probe 가 실패해 다시 실행되지만, 뒤 단계는 자신의 체크포인트와 probe 로만 판단
+        scheduler.run(List.of(
+                step("UPDATE_PACKAGE").inputHash("h").probe(() -> false).build(),
+                step("CREATE_JENKINS_PIPELINE").dependsOn("UPDATE_PACKAGE").inputHash("h").probe(() -> true).build()
+        ), checkpoints, status -> {});
+
+        assertThat(executed).containsExactly("UPDATE_PACKAGE");
+    }
+
+    @Test
+    void failureStopsDependentStepsAndIsRethrown() {
+        parallelism(3);
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        assertThatThrownBy(() -> scheduler.run(List.of(
+                ProvisioningStep.builder().name("A").action(() -> { throw failure; }).build(),
+                step("B").dependsOn("A").build()
+        ), checkpoints, status -> {})).isSameAs(failure);
+
+        assertThat(executed).isEmpty();
+        assertThat(checkpoints.findInputHash("A")).isEmpty();
+    }
+
+    @Test
+    void reportsFirstIncompleteStepStatusInOrder() {
+        parallelism(3);
+        List<ServerStatus> reported = new ArrayList<>();
+
+        scheduler.run(List.of(
+                step("A").status(ServerStatus.UPDATE_PACKAGE).build(),
+                step("B").status(ServerStatus.INSTALL_JDK).dependsOn("A").build()
+        ), checkpoints, reported::add);
+
+        assertThat(reported).containsExactly(ServerStatus.UPDATE_PACKAGE, ServerStatus.INSTALL_JDK);
+    }
+
+    @Test
+    void rejectsCyclesAndUnknownDependencies() {
+        assertThatThrownBy(() -> scheduler.run(List.of(
+                step("A").dependsOn("B").build(),
+                step("B").dependsOn("A").build()
+        ), checkpoints, status -> {})).isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> scheduler.run(List.of(step("A").dependsOn("missing").build()), checkpoints, status -> {}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ProvisioningStep.ProvisioningStepBuilder step(String name) {
+        return ProvisioningStep.builder().name(name).action(() -> executed.add(name));
+    }
+
+    private void parallelism(int maxParallelism) {
+        ReflectionTestUtils.setField(scheduler, "maxParallelism", maxParallelism);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class MapCheckpointStore implements ProvisioningCheckpointStore {
+
+        private final Map<String, String> hashes = Collections.synchronizedMap(new HashMap<>());
+
+        @Override
+        public Optional<String> findInputHash(String stepName) {
+            return Optional.ofNullable(hashes.get(stepName));
+        }
+
+        @Override
+        public void save(String stepName, String inputHash) {
+            hashes.put(stepName, inputHash);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.backend.domain.server.service;
+
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.KeyPair;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.backend.common.session.RedisSessionManager;
+import org.example.backend.common.ssh.SshCommandExecutor;
+import org.example.backend.common.ssh.SshScriptBundleExecutor;
+import org.example.backend.common.ssh.SshSessionPool;
+import org.example.backend.domain.fcm.service.NotificationServiceImpl;
+import org.example.backend.domain.gitlab.dto.GitlabProject;
+import org.example.backend.domain.gitlab.service.GitlabService;
+import org.example.backend.domain.jenkins.repository.JenkinsInfoRepository;
+import org.example.backend.domain.jenkins.service.JenkinsService;
+import org.example.backend.domain.project.entity.Project;
+import org.example.backend.domain.project.repository.*;
+import org.example.backend.domain.project.service.ProjectService;
+import org.example.backend.domain.server.artifact.ProvisioningArtifactCache;
+import org.example.backend.domain.server.entity.HttpsLog;
+import org.example.backend.domain.server.log.HttpsLogChunkWriter;
+import org.example.backend.domain.server.provisioning.ProvisioningCheckpointStore;
+import org.example.backend.domain.server.provisioning.ProvisioningStepScheduler;
+import org.example.backend.domain.server.provisioning.ProvisioningStepTimer;
+import org.example.backend.domain.server.repository.ContainerResourceLimitRepository;
+import org.example.backend.domain.server.repository.HttpsLogChunkRepository;
+import org.example.backend.domain.server.repository.HttpsLogRepository;
+import org.example.backend.domain.server.repository.ProvisioningStepTimelineRepository;
+import org.example.backend.domain.user.entity.User;
+import org.example.backend.domain.user.repository.UserRepository;
+import org.example.backend.domain.userproject.repository.UserProjectRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 내장 SSH 서버를 대상으로 ServerServiceImpl 을 조립합니다.
+ * SSH 경로(세션 풀, 명령 실행기, 스크립트 번들, 단계 스케줄러)는 실제 구현을 쓰고, DB/GitLab/알림은 목으로 대체합니다.
+ */
+class ProvisioningBenchmarkFixture {
+
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final SshSessionPool sshSessionPool;
+    final ServerServiceImpl serverService;
+
+    final GitlabService gitlabService = mock(GitlabService.class);
+    final RedisSessionManager redisSessionManager = mock(RedisSessionManager.class);
+    final ProvisioningJobService provisioningJobService = mock(ProvisioningJobService.class);
+    final UserRepository userRepository = mock(UserRepository.class);
+    final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    final UserProjectRepository userProjectRepository = mock(UserProjectRepository.class);
+
+    final byte[] pem = generatePem();
+
+    ProvisioningBenchmarkFixture(int sshPort, boolean scriptBundleEnabled, int maxParallelism) {
+        SshCommandExecutor sshCommandExecutor = new SshCommandExecutor();
+        ReflectionTestUtils.setField(sshCommandExecutor, "commandTimeoutSeconds", 120L);
+        ReflectionTestUtils.setField(sshCommandExecutor, "outputBufferBytes", 262144);
+        ReflectionTestUtils.setField(sshCommandExecutor, "collectLimitBytes", 1048576);
+
+        sshSessionPool = new SshSessionPool(meterRegistry);
+        ReflectionTestUtils.setField(sshSessionPool, "sshPort", sshPort);
+        ReflectionTestUtils.setField(sshSessionPool, "maxChannelsPerSession", 8);
+        ReflectionTestUtils.setField(sshSessionPool, "maxSessionsPerHost", 2);
+        ReflectionTestUtils.setField(sshSessionPool, "keepAliveIntervalSeconds", 30);
+        ReflectionTestUtils.setField(sshSessionPool, "idleTimeoutSeconds", 300L);
+        ReflectionTestUtils.setField(sshSessionPool, "acquireTimeoutSeconds", 120L);
+        ReflectionTestUtils.invokeMethod(sshSessionPool, "registerGauges");
+
+        SshScriptBundleExecutor sshScriptBundleExecutor = new SshScriptBundleExecutor(sshCommandExecutor);
+        ReflectionTestUtils.setField(sshScriptBundleExecutor, "scriptTimeoutSeconds", 600L);
+        ReflectionTestUtils.setField(sshScriptBundleExecutor, "collectLimitBytes", 1048576);
+
+        ProvisioningStepTimer provisioningStepTimer = new ProvisioningStepTimer(meterRegistry, mock(ProvisioningStepTimelineRepository.class));
+
+        ProvisioningStepScheduler provisioningStepScheduler = new ProvisioningStepScheduler(provisioningStepTimer);
+        ReflectionTestUtils.setField(provisioningStepScheduler, "maxParallelism", maxParallelism);
+
+        ProvisioningArtifactCache provisioningArtifactCache = new ProvisioningArtifactCache(sshCommandExecutor);
+        ReflectionTestUtils.setField(provisioningArtifactCache, "enabled", false);
+
+        ProvisioningCheckpointService provisioningCheckpointService = projectId -> new ProvisioningCheckpointStore() {
+            @Override
+            public Optional<String> findInputHash(String stepName) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void save(String stepName, String inputHash) {
+            }
+        };
+
+        HttpsLogService httpsLogService = mock(HttpsLogService.class);
+        when(httpsLogService.startLog(anyLong(), any())).thenReturn(HttpsLog.builder().id(1L).build());
+        when(httpsLogService.openWriter(any()))
+                .thenAnswer(invocation -> new HttpsLogChunkWriter(mock(HttpsLogChunkRepository.class), mock(HttpsLogRepository.class), 1L, 65536));
+
+        serverService = new ServerServiceImpl(
+                gitlabService,
+                mock(ServerStatusService.class),
+                redisSessionManager,
+                mock(NotificationServiceImpl.class),
+                provisioningJobService,
+                mock(ProjectService.class),
+                sshCommandExecutor,
+                sshSessionPool,
+                sshScriptBundleExecutor,
+                provisioningStepScheduler,
+                provisioningStepTimer,
+                provisioningArtifactCache,
+                provisioningCheckpointService,
+                userRepository,
+                projectRepository,
+                httpsLogService,
+                userProjectRepository,
+                mock(JenkinsInfoRepository.class),
+                mock(ApplicationRepository.class),
+                mock(ProjectFileRepository.class),
+                mock(ProjectApplicationRepository.class),
+                mock(ApplicationEnvVariableListRepository.class),
+                mock(ContainerResourceLimitRepository.class),
+                mock(JenkinsService.class)
+        );
+        ReflectionTestUtils.setField(serverService, "scriptBundleEnabled", scriptBundleEnabled);
+
+        GitlabProject gitlabProject = new GitlabProject();
+        gitlabProject.setGitlabProjectId(42L);
+        gitlabProject.setName("bench-app");
+        gitlabProject.setPathWithNamespace("bench/bench-app");
+        when(gitlabService.getProjectByUrl(any(), any())).thenReturn(gitlabProject);
+    }
+
+    static User user() {
+        return User.builder()
+                .id(1L)
+                .userIdentifyId("bench")
+                .gitlabPersonalAccessToken("glpat-bench")
+                .build();
+    }
+
+    static Project project(long id, String serverIp) {
+        return Project.builder()
+                .id(id)
+                .projectName("bench-" + id)
+                .serverIP(serverIp)
+                .repositoryUrl("https://lab.ssafy.com/bench/bench-app.git")
+                .gitlabTargetBranchName("main")
+                .frontendDirectoryName("frontend")
+                .backendDirectoryName("backend")
+                .frontendFramework("React")
+                .nodejsVersion("20")
+                .jdkVersion("17")
+                .jdkBuildTool("Gradle")
+                .build();
+    }
+
+    static byte[] envFile() {
+        return "SPRING_PROFILES_ACTIVE=prod\nDB_HOST=mysql\n".getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] generatePem() {
+        try {
+            KeyPair keyPair = KeyPair.genKeyPair(new JSch(), KeyPair.RSA, 2048);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            keyPair.writePrivateKey(out);
+            keyPair.dispose();
+            return out.toByteArray();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
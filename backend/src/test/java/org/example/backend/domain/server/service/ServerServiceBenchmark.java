@@ -0,0 +1,201 @@
+package org.example.backend.domain.server.service;
+
+import org.example.backend.common.session.dto.SessionInfoDto;
+import org.example.backend.controller.request.server.HttpsConvertRequest;
+import org.example.backend.domain.project.entity.Project;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.example.backend.support.ssh.FakeSshServer;
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 내장 SSH 서버를 대상으로 자동 배포 / HTTPS 전환 / 동시 프로비저닝의 SSH 경로 처리량을 측정합니다.
+ * 명령 지연과 출력 크기는 FakeSshServer 규칙으로 흉내 내며, 시나리오마다 소요 시간, 열린 세션/채널 수, 스레드 사용량을 출력합니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ServerServiceBenchmark {
+
+    private static final int CONCURRENT_HOSTS = 8;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final List<String> report = new ArrayList<>();
+
+    private FakeSshServer server;
+
+    @BeforeAll
+    void startServer() throws Exception {
+        server = FakeSshServer.start();
+    }
+
+    @AfterAll
+    void stopServer() throws Exception {
+        server.close();
+
+        System.out.println();
+        System.out.printf("%-38s %9s %9s %9s %10s %9s %12s%n",
+                "scenario", "wall(ms)", "sessions", "channels", "peak-chan", "commands", "peak-threads");
+        report.forEach(System.out::println);
+    }
+
+    @BeforeEach
+    void resetServer() {
+        server.clearRules();
+        server.reply("cat /tmp/jenkins_token", "bench-token\n")
+                .on("apt (update|install|upgrade)", Duration.ofMillis(80), 32 * 1024, 0)
+                .on("certbot", Duration.ofMillis(120), 4 * 1024, 0)
+                .otherwise(Duration.ofMillis(5), 512);
+        server.resetStats();
+    }
+
+    @Test
+    void autoDeployment_scriptBundle() {
+        ProvisioningBenchmarkFixture fixture = fixture(true);
+        Project project = ProvisioningBenchmarkFixture.project(1L, "127.0.0.1");
+
+        measure("autoDeployment (bundle)", () -> fixture.serverService.autoDeploymentSettingProcess(
+                ProvisioningBenchmarkFixture.user(), project, fixture.pem,
+                ProvisioningBenchmarkFixture.envFile(), ProvisioningBenchmarkFixture.envFile()));
+    }
+
+    @Test
+    void autoDeployment_perCommandChannels() {
+        ProvisioningBenchmarkFixture fixture = fixture(false);
+        Project project = ProvisioningBenchmarkFixture.project(1L, "127.0.0.1");
+
+        measure("autoDeployment (channel per command)", () -> fixture.serverService.autoDeploymentSettingProcess(
+                ProvisioningBenchmarkFixture.user(), project, fixture.pem,
+                ProvisioningBenchmarkFixture.envFile(), ProvisioningBenchmarkFixture.envFile()));
+    }
+
+    @Test
+    void scriptBundleOpensFewerChannels() {
+        Project project = ProvisioningBenchmarkFixture.project(1L, "127.0.0.1");
+
+        ProvisioningBenchmarkFixture bundled = fixture(true);
+        bundled.serverService.autoDeploymentSettingProcess(ProvisioningBenchmarkFixture.user(), project, bundled.pem,
+                ProvisioningBenchmarkFixture.envFile(), ProvisioningBenchmarkFixture.envFile());
+        int bundledChannels = server.stats().channelsOpened();
+
+        server.resetStats();
+        ProvisioningBenchmarkFixture perCommand = fixture(false);
+        perCommand.serverService.autoDeploymentSettingProcess(ProvisioningBenchmarkFixture.user(), project, perCommand.pem,
+                ProvisioningBenchmarkFixture.envFile(), ProvisioningBenchmarkFixture.envFile());
+        int perCommandChannels = server.stats().channelsOpened();
+
+        assertThat(bundledChannels).isLessThan(perCommandChannels);
+    }
+
+    @Test
+    void convertHttpToHttps() {
+        ProvisioningBenchmarkFixture fixture = fixture(true);
+        Project project = ProvisioningBenchmarkFixture.project(1L, "127.0.0.1");
+
+        when(fixture.redisSessionManager.getSession(any())).thenReturn(SessionInfoDto.builder().userId(1L).build());
+        when(fixture.userRepository.findById(anyLong())).thenReturn(Optional.of(ProvisioningBenchmarkFixture.user()));
+        when(fixture.projectRepository.findById(anyLong())).thenReturn(Optional.of(project));
+        when(fixture.userProjectRepository.existsByProjectIdAndUserId(anyLong(), anyLong())).thenReturn(true);
+        // 작업 엔진 대신 호출 스레드에서 바로 실행
+        when(fixture.provisioningJobService.submit(any(), any(), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return null;
+        });
+
+        HttpsConvertRequest request = new HttpsConvertRequest();
+        request.setProjectId(1L);
+        request.setDomain("bench.example.com");
+        request.setEmail("bench@example.com");
+
+        measure("convertHttpToHttps", () -> fixture.serverService.convertHttpToHttps(
+                request, new MockMultipartFile("pemFile", fixture.pem), "Bearer bench"));
+    }
+
+    @Test
+    void concurrentProvisionings() throws Exception {
+        ProvisioningBenchmarkFixture fixture = fixture(true);
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENT_HOSTS);
+
+        try {
+            measure("autoDeployment x" + CONCURRENT_HOSTS + " hosts (concurrent)", () -> {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < CONCURRENT_HOSTS; i++) {
+                    // 127.0.0.x 는 모두 루프백이지만 풀에서는 서로 다른 서버로 취급됩니다.
+                    Project project = ProvisioningBenchmarkFixture.project(i + 1, "127.0.0." + (i + 1));
+                    futures.add(callers.submit(() -> fixture.serverService.autoDeploymentSettingProcess(
+                            ProvisioningBenchmarkFixture.user(), project, fixture.pem,
+                            ProvisioningBenchmarkFixture.envFile(), ProvisioningBenchmarkFixture.envFile())));
+                }
+                for (Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(server.stats().sessionsOpened()).isGreaterThanOrEqualTo(CONCURRENT_HOSTS);
+    }
+
+    @Test
+    void failingStepStopsDeployment() {
+        server.clearRules();
+        server.on("apt install -y docker-ce", Duration.ofMillis(20), 1024, 100)
+                .reply("cat /tmp/jenkins_token", "bench-token\n")
+                .otherwise(Duration.ofMillis(5), 512);
+
+        ProvisioningBenchmarkFixture fixture = fixture(true);
+        Project project = ProvisioningBenchmarkFixture.project(1L, "127.0.0.1");
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> fixture.serverService.autoDeploymentSettingProcess(
+                ProvisioningBenchmarkFixture.user(), project, fixture.pem,
+                ProvisioningBenchmarkFixture.envFile(), ProvisioningBenchmarkFixture.envFile()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INSTALL_DOCKER_FAILED);
+
+        record("autoDeployment (docker install fails)", Duration.ofNanos(System.nanoTime() - start), threads.getPeakThreadCount());
+    }
+
+    private ProvisioningBenchmarkFixture fixture(boolean scriptBundleEnabled) {
+        return new ProvisioningBenchmarkFixture(server.getPort(), scriptBundleEnabled, 3);
+    }
+
+    private void measure(String scenario, Runnable action) {
+        threads.resetPeakThreadCount();
+        long start = System.nanoTime();
+
+        action.run();
+
+        record(scenario, Duration.ofNanos(System.nanoTime() - start), threads.getPeakThreadCount());
+    }
+
+    private void record(String scenario, Duration elapsed, int peakThreads) {
+        FakeSshServer.Stats stats = server.stats();
+        report.add(String.format("%-38s %9d %9d %9d %10d %9d %12d",
+                scenario, elapsed.toMillis(), stats.sessionsOpened(), stats.channelsOpened(),
+                stats.peakConcurrentChannels(), stats.commandsExecuted(), peakThreads));
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.backend.domain.server.service;
+
+import org.example.backend.common.session.dto.SessionInfoDto;
+import org.example.backend.controller.request.server.HttpsConvertRequest;
+import org.example.backend.domain.project.entity.Project;
+import org.example.backend.support.ssh.FakeSshServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 스크립트 번들로 묶은 자동 배포 명령이 실제 bash 에서 문법 오류 없이 해석되는지 확인합니다.
+ * FakeSshServer 는 번들을 실행하기 전에 bash -n 으로 검사하므로, 번들 하나라도 깨지면 해당 단계가 실패합니다.
+ */
+class ServerServiceScriptBundleTest {
+
+    private FakeSshServer server;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = FakeSshServer.start();
+        server.reply("cat /tmp/jenkins_token", "test-token\n")
+                .otherwise(Duration.ZERO, 0);
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        server.close();
+    }
+
+    @Test
+    void bundledAutoDeploymentScriptsPassBashSyntaxCheck() {
+        ProvisioningBenchmarkFixture fixture = new ProvisioningBenchmarkFixture(server.getPort(), true, 3);
+        Project project = ProvisioningBenchmarkFixture.project(1L, "127.0.0.1");
+
+        assertThatCode(() -> fixture.serverService.autoDeploymentSettingProcess(
+                ProvisioningBenchmarkFixture.user(), project, fixture.pem,
+                ProvisioningBenchmarkFixture.envFile(), ProvisioningBenchmarkFixture.envFile()))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void bundledHttpsConversionScriptsPassBashSyntaxCheck() {
+        ProvisioningBenchmarkFixture fixture = new ProvisioningBenchmarkFixture(server.getPort(), true, 3);
+        Project project = ProvisioningBenchmarkFixture.project(1L, "127.0.0.1");
+
+        when(fixture.redisSessionManager.getSession(any())).thenReturn(SessionInfoDto.builder().userId(1L).build());
+        when(fixture.userRepository.findById(anyLong())).thenReturn(Optional.of(ProvisioningBenchmarkFixture.user()));
+        when(fixture.projectRepository.findById(anyLong())).thenReturn(Optional.of(project));
+        when(fixture.userProjectRepository.existsByProjectIdAndUserId(anyLong(), anyLong())).thenReturn(true);
+        // 작업 엔진 대신 호출 스레드에서 바로 실행해 단계 실패가 그대로 드러나게 합니다.
+        when(fixture.provisioningJobService.submit(any(), any(), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return null;
+        });
+
+        HttpsConvertRequest request = new HttpsConvertRequest();
+        request.setProjectId(1L);
+        request.setDomain("test.example.com");
+        request.setEmail("test@example.com");
+
+        assertThatCode(() -> fixture.serverService.convertHttpToHttps(
+                request, new MockMultipartFile("pemFile", fixture.pem), "Bearer test"))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,311 @@
+package org.example.backend.support.ssh;
+
+import org.apache.sshd.common.channel.Channel;
+import org.apache.sshd.common.channel.ChannelListener;
+import org.apache.sshd.common.file.virtualfs.VirtualFileSystemFactory;
+import org.apache.sshd.common.session.Session;
+import org.apache.sshd.common.session.SessionListener;
+import org.apache.sshd.server.Environment;
+import org.apache.sshd.server.ExitCallback;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.auth.pubkey.AcceptAllPublickeyAuthenticator;
+import org.apache.sshd.server.channel.ChannelSession;
+import org.apache.sshd.server.command.Command;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+import org.apache.sshd.sftp.server.SftpSubsystemFactory;
+import org.example.backend.common.ssh.SshScriptBundle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실제 EC2 대신 붙을 수 있는 내장 SSH 서버.
+ * - exec 명령은 실제로 실행하지 않고, 등록한 규칙(정규식)에 따라 지연/출력 크기/종료 코드만 흉내 냅니다.
+ * - SFTP 로 업로드된 스크립트 번들(SshScriptBundle 형식)은 먼저 실제 bash -n 으로 문법을 확인한 뒤
+ *   명령 단위로 풀어서 같은 규칙으로 실행하고, 실제 bash 와 같은 시작/종료 마커를 출력합니다.
+ *   문법 오류가 있으면 bash 처럼 종료 코드 2 로 끝나므로, 명령을 묶으면서 깨지는 스크립트(닫히지 않는 heredoc 등)를 잡아냅니다.
+ * - 세션/채널 수를 세어 벤치마크에서 SSH 경로의 왕복 수를 비교할 수 있습니다.
+ */
+public class FakeSshServer implements AutoCloseable {
+
+    private static final Pattern BUNDLE_COMMAND = Pattern.compile("^bash (/tmp/seed-step-[^;\\s]+\\.sh);");
+
+    private final SshServer sshd;
+    private final Path root;
+    private final ExecutorService commandThreads = Executors.newCachedThreadPool();
+
+    private final List<CommandRule> rules = new CopyOnWriteArrayList<>();
+    private volatile CommandRule defaultRule = CommandRule.any(Duration.ZERO, 0, 0);
+
+    private final AtomicInteger sessionsOpened = new AtomicInteger();
+    private final AtomicInteger channelsOpened = new AtomicInteger();
+    private final AtomicInteger activeChannels = new AtomicInteger();
+    private final AtomicInteger peakChannels = new AtomicInteger();
+    private final AtomicInteger commandsExecuted = new AtomicInteger();
+
+    private FakeSshServer(Path root) {
+        this.root = root;
+        this.sshd = SshServer.setUpDefaultServer();
+
+        sshd.setHost("0.0.0.0");
+        sshd.setPort(0);
+        sshd.setKeyPairProvider(new SimpleGeneratorHostKeyProvider());
+        sshd.setPublickeyAuthenticator(AcceptAllPublickeyAuthenticator.INSTANCE);
+        sshd.setFileSystemFactory(new VirtualFileSystemFactory(root));
+        sshd.setSubsystemFactories(List.of(new SftpSubsystemFactory()));
+        sshd.setCommandFactory((channel, command) -> new SimulatedCommand(command));
+
+        sshd.addSessionListener(new SessionListener() {
+            @Override
+            public void sessionCreated(Session session) {
+                sessionsOpened.incrementAndGet();
+            }
+        });
+        sshd.addChannelListener(new ChannelListener() {
+            @Override
+            public void channelOpenSuccess(Channel channel) {
+                channelsOpened.incrementAndGet();
+                peakChannels.accumulateAndGet(activeChannels.incrementAndGet(), Math::max);
+            }
+
+            @Override
+            public void channelClosed(Channel channel, Throwable reason) {
+                activeChannels.decrementAndGet();
+            }
+        });
+    }
+
+    public static FakeSshServer start() throws IOException {
+        Path root = Files.createTempDirectory("fake-ssh-");
+        Files.createDirectories(root.resolve("tmp"));
+
+        FakeSshServer server = new FakeSshServer(root);
+        server.sshd.start();
+        return server;
+    }
+
+    public int getPort() {
+        return sshd.getPort();
+    }
+
+    /**
+     * 정규식이 명령 안에서 발견되면 적용할 동작을 등록합니다. 먼저 등록한 규칙이 우선합니다.
+     */
+    public FakeSshServer on(String regex, Duration latency, int outputBytes, int exitStatus) {
+        rules.add(new CommandRule(Pattern.compile(regex), latency, outputBytes, exitStatus, null));
+        return this;
+    }
+
+    public FakeSshServer reply(String regex, String stdout) {
+        rules.add(new CommandRule(Pattern.compile(regex), Duration.ZERO, 0, 0, stdout));
+        return this;
+    }
+
+    public FakeSshServer otherwise(Duration latency, int outputBytes) {
+        defaultRule = CommandRule.any(latency, outputBytes, 0);
+        return this;
+    }
+
+    public void clearRules() {
+        rules.clear();
+        defaultRule = CommandRule.any(Duration.ZERO, 0, 0);
+    }
+
+    public Stats stats() {
+        return new Stats(sessionsOpened.get(), channelsOpened.get(), peakChannels.get(), commandsExecuted.get());
+    }
+
+    public void resetStats() {
+        sessionsOpened.set(0);
+        channelsOpened.set(0);
+        peakChannels.set(activeChannels.get());
+        commandsExecuted.set(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        sshd.stop(true);
+        commandThreads.shutdownNow();
+    }
+
+    private CommandRule ruleFor(String command) {
+        for (CommandRule rule : rules) {
+            if (rule.pattern().matcher(command).find()) {
+                return rule;
+            }
+        }
+        return defaultRule;
+    }
+
+    /**
+     * SshScriptBundle.compile 결과에서 원래 명령 목록을 복원합니다.
+     */
+    static List<String> parseBundle(String script) {
+        List<String> cmds = new ArrayList<>();
+        String[] lines = script.split("\n", -1);
+        String beginPrefix = "__seed_mark \"" + SshScriptBundle.BEGIN_MARKER + " ";
+
+        for (int i = 0; i < lines.length; i++) {
+            if (!lines[i].startsWith(beginPrefix)) {
+                continue;
+            }
+
+            // BEGIN 마커 다음 줄은 "(" 이고, ")" + "__seed_rc=$?" 가 나올 때까지가 명령 본문
+            StringBuilder body = new StringBuilder();
+            int j = i + 2;
+            while (j + 1 < lines.length && !(lines[j].equals(")") && lines[j + 1].equals("__seed_rc=$?"))) {
+                body.append(body.length() == 0 ? "" : "\n").append(lines[j]);
+                j++;
+            }
+            cmds.add(body.toString());
+            i = j;
+        }
+        return cmds;
+    }
+
+    public record Stats(int sessionsOpened, int channelsOpened, int peakConcurrentChannels, int commandsExecuted) {
+    }
+
+    private record CommandRule(Pattern pattern, Duration latency, int outputBytes, int exitStatus, String stdout) {
+
+        static CommandRule any(Duration latency, int outputBytes, int exitStatus) {
+            return new CommandRule(Pattern.compile(""), latency, outputBytes, exitStatus, null);
+        }
+    }
+
+    private class SimulatedCommand implements Command {
+
+        private final String command;
+        private OutputStream out;
+        private OutputStream err;
+        private ExitCallback exitCallback;
+
+        SimulatedCommand(String command) {
+            this.command = command;
+        }
+
+        @Override
+        public void setInputStream(InputStream in) {
+        }
+
+        @Override
+        public void setOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void setErrorStream(OutputStream err) {
+            this.err = err;
+        }
+
+        @Override
+        public void setExitCallback(ExitCallback callback) {
+            this.exitCallback = callback;
+        }
+
+        @Override
+        public void start(ChannelSession channel, Environment env) {
+            commandThreads.submit(() -> {
+                int exitStatus;
+                try {
+                    Matcher bundle = BUNDLE_COMMAND.matcher(command);
+                    exitStatus = bundle.find() ? runBundle(bundle.group(1)) : runSingle(command, false, -1);
+                    out.flush();
+                    err.flush();
+                } catch (Exception e) {
+                    exitStatus = 255;
+                }
+                exitCallback.onExit(exitStatus);
+            });
+        }
+
+        @Override
+        public void destroy(ChannelSession channel) {
+        }
+
+        private int runBundle(String remotePath) throws IOException, InterruptedException {
+            Path script = root.resolve(remotePath.substring(1));
+            int syntaxStatus = checkSyntax(script);
+            if (syntaxStatus != 0) {
+                Files.deleteIfExists(script);
+                return syntaxStatus;
+            }
+
+            List<String> cmds = parseBundle(Files.readString(script));
+            Files.deleteIfExists(script);
+
+            for (int i = 0; i < cmds.size(); i++) {
+                mark(SshScriptBundle.BEGIN_MARKER + " " + i);
+                int exitStatus = runSingle(cmds.get(i), true, i);
+                mark(SshScriptBundle.END_MARKER + " " + i + " " + exitStatus);
+                if (exitStatus != 0) {
+                    return exitStatus;
+                }
+            }
+            return 0;
+        }
+
+        private int checkSyntax(Path script) throws IOException, InterruptedException {
+            Process bash = new ProcessBuilder("bash", "-n", script.toString())
+                    .redirectErrorStream(true)
+                    .start();
+            byte[] output = bash.getInputStream().readAllBytes();
+            int exitStatus = bash.waitFor();
+            if (exitStatus != 0) {
+                err.write(output);
+            }
+            return exitStatus;
+        }
+
+        private int runSingle(String cmd, boolean bundled, int index) throws IOException, InterruptedException {
+            commandsExecuted.incrementAndGet();
+            CommandRule rule = ruleFor(cmd);
+
+            if (!rule.latency().isZero()) {
+                Thread.sleep(rule.latency().toMillis());
+            }
+
+            if (rule.stdout() != null) {
+                out.write(rule.stdout().getBytes(StandardCharsets.UTF_8));
+            }
+            writeFiller(rule.outputBytes());
+
+            if (rule.exitStatus() != 0) {
+                err.write(("simulated failure" + (bundled ? " #" + index : "") + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            return rule.exitStatus();
+        }
+
+        private void mark(String marker) throws IOException {
+            byte[] line = (marker + "\n").getBytes(StandardCharsets.UTF_8);
+            out.write(line);
+            out.flush();
+            err.write(line);
+            err.flush();
+        }
+
+        private void writeFiller(int bytes) throws IOException {
+            byte[] line = "Get:1 http://archive.ubuntu.com/ubuntu jammy/main amd64 simulated-package 1.0 [1024 B]\n"
+                    .getBytes(StandardCharsets.US_ASCII);
+            int remaining = bytes;
+            while (remaining > 0) {
+                int length = Math.min(line.length, remaining);
+                out.write(line, 0, length);
+                remaining -= length;
+            }
+        }
+    }
+}